@@ -1,14 +1,21 @@
 // src/main/java/cherish/Cherish.java
 package cherish;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import cherish.command.Command;
 import cherish.command.UndoCommand;
+import cherish.model.Task;
 import cherish.model.TaskList;
 import cherish.parser.Parser;
 import cherish.storage.Storage;
+import cherish.storage.StorageMode;
 import cherish.ui.Ui;
 
 /**
@@ -17,31 +24,109 @@ import cherish.ui.Ui;
  */
 public class Cherish {
     private static final String BYE_MESSAGE = "Bye. Hope to see you again soon!";
+
+    /** How long before a deadline is due, and before an event starts, to remind the user. */
+    private static final Duration DEADLINE_REMINDER_LEAD = Duration.ofHours(1);
+    private static final Duration EVENT_REMINDER_LEAD = Duration.ofMinutes(15);
+
     private final Deque<Command> commandHistory = new ArrayDeque<>();
     private Storage storage;
+
+    /** The loaded task list, or null until the load has been awaited. */
     private TaskList tasks;
+
+    /** Load of the task list, possibly still running on a background thread. */
+    private final CompletableFuture<Task[]> pendingLoad;
     private Ui ui;
     private boolean shouldExit = false;
 
+    /** Reminder scheduler, or null until reminders are started. */
+    private ReminderScheduler reminders;
+
     /**
      * Constructs a Cherish application instance for GUI mode.
      * Initializes the UI in GUI mode, storage, and loads the existing task list from the file.
+     * Changes are journaled, so each command appends a small record instead of rewriting the file,
+     * and an unchanged file is loaded from its startup cache instead of being parsed again.
      * If loading fails, it starts with an empty task list.
      *
      * @param filePath The path to the file where tasks are stored.
      */
     public Cherish(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a Cherish application instance for GUI mode, optionally loading in the background.
+     * With progressive loading, the constructor returns at once and the task list is read
+     * on a background thread; the first command waits for it, see {@link #whenReady()}.
+     *
+     * @param filePath The path to the file where tasks are stored.
+     * @param isProgressive Whether to load the task list in the background.
+     */
+    public Cherish(String filePath, boolean isProgressive) {
         ui = new Ui(true); // Create UI in GUI mode
-        storage = new Storage(filePath);
+        storage = new Storage(filePath, StorageMode.JOURNAL);
+        storage.setStartupCache(true);
         ui.showWelcome();
-        try {
-            tasks = new TaskList(storage.load());
-        } catch (CherishException e) {
-            ui.showLoadingError(); // This will be collected by UI
-            tasks = new TaskList();
+
+        if (isProgressive) {
+            pendingLoad = CompletableFuture.supplyAsync(this::loadTasks, runnable -> {
+                Thread thread = new Thread(runnable, "cherish-loader");
+                thread.setDaemon(true);
+                thread.start();
+            });
+        } else {
+            pendingLoad = new CompletableFuture<>();
+            try {
+                pendingLoad.complete(storage.load());
+            } catch (CherishException e) {
+                pendingLoad.completeExceptionally(e);
+            }
+            awaitTasks();
         }
     }
 
+    /**
+     * Returns whether the task list has finished loading, so commands will not wait.
+     *
+     * @return True once loading has completed, successfully or not.
+     */
+    public boolean isReady() {
+        return pendingLoad.isDone();
+    }
+
+    /**
+     * Returns a future that completes once the task list has finished loading,
+     * successfully or not. It may complete on the loading thread.
+     *
+     * @return Future signalling readiness.
+     */
+    public CompletableFuture<Void> whenReady() {
+        return pendingLoad.handle((loaded, failure) -> null);
+    }
+
+    /**
+     * Starts reminding the user of deadlines and events that are close.
+     * Waits for the task list to load, so it should be called once {@link #whenReady()} completes,
+     * on the thread that handles commands, after {@link #getInitialMessages()} has been shown.
+     *
+     * @param notifier Receives each reminder message, on the reminder thread.
+     * @return Messages from finishing the load, such as a loading error, to show the user in GUI mode.
+     */
+    public String startReminders(Consumer<String> notifier) {
+        assert reminders == null : "Reminders already started";
+
+        ui.getMessagesForGui(); // The initial messages, already shown
+        awaitTasks();
+        reminders = new ReminderScheduler(
+                Clock.systemDefaultZone(), DEADLINE_REMINDER_LEAD, EVENT_REMINDER_LEAD, notifier
+        );
+        tasks.setDueListener(reminders);
+        reminders.start();
+        return ui.getMessagesForGui();
+    }
+
     /**
      * Returns the response string for the user input.
      * This method is used by the GUI to get the bot's reply.
@@ -54,11 +139,15 @@ public class Cherish {
         assert input != null : "Cherish.getResponse received a null input";
 
         ui.getMessagesForGui();
+        awaitTasks();
 
         try {
             Command command = Parser.parse(input);
             executeCommand(command);
             shouldExit = command.isExit();
+            if (shouldExit) {
+                stopReminders();
+            }
             return ui.getMessagesForGui();
 
         } catch (CherishException e) {
@@ -90,9 +179,12 @@ public class Cherish {
      * Runs the main application loop for console mode.
      * Continuously reads user commands, parses them, executes the corresponding action,
      * handles errors, and exits when the 'bye' command is issued.
+     * Output, including reminders, goes straight to the console.
      */
     public void run() {
+        ui = new Ui(false);
         ui.showWelcome();
+        startReminders(ui::showReminder);
         boolean isExit = false;
         while (!isExit) {
             try {
@@ -107,9 +199,54 @@ public class Cherish {
                 ui.showError(e.getMessage());
             }
         }
+        stopReminders();
         ui.showBye();
     }
 
+    /**
+     * Reads the task list from storage. Runs on the loading thread in progressive mode.
+     */
+    private Task[] loadTasks() {
+        try {
+            return storage.load();
+        } catch (CherishException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Waits for the task list to finish loading and installs it, once.
+     * If loading fails, it starts with an empty task list.
+     * Tasks stored before IDs existed are saved once with their new IDs.
+     */
+    private void awaitTasks() {
+        if (tasks != null) {
+            return;
+        }
+        try {
+            tasks = new TaskList(pendingLoad.join());
+        } catch (CompletionException e) {
+            ui.showLoadingError(); // This will be collected by UI
+            tasks = new TaskList();
+            return;
+        }
+
+        if (tasks.hasUnsavedIds()) {
+            try {
+                storage.save(tasks.toArray());
+            } catch (CherishException e) {
+                ui.showError(e.getMessage());
+            }
+        }
+    }
+
+    private void stopReminders() {
+        if (reminders != null) {
+            tasks.setDueListener(null);
+            reminders.close();
+        }
+    }
+
     /**
      * Helper method for creating response
      */
@@ -15,7 +15,8 @@ import javafx.stage.Stage;
  */
 public class Main extends Application {
 
-    private Cherish cherish = new Cherish("data/cherish.txt");
+    /** Loads the task list in the background, so the window opens without waiting for it. */
+    private Cherish cherish = new Cherish("data/cherish.txt", true);
 
     @Override
     public void start(Stage stage) {
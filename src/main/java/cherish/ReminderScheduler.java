@@ -0,0 +1,215 @@
+package cherish;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import cherish.model.Deadline;
+import cherish.model.Task;
+import cherish.model.TaskList;
+
+/**
+ * Reminds the user shortly before a deadline is due or an event starts.
+ *
+ * Reminders wait in a single delay queue: a sorted map from reminder time to tasks, kept up to date
+ * by the task list as tasks are added, deleted, marked and unmarked, each change costing O(log n).
+ * One daemon thread sleeps until the earliest reminder is due, and is woken early only when
+ * a sooner reminder arrives, so the cost stays flat however many reminders are waiting.
+ */
+public final class ReminderScheduler implements TaskList.DueListener, AutoCloseable {
+
+    private final Clock clock;
+    private final Duration deadlineLead;
+    private final Duration eventLead;
+    private final Consumer<String> notifier;
+
+    /** Tasks by the time to remind of them. Guarded by {@link #lock}. */
+    private final NavigableMap<LocalDateTime, Set<Task>> reminders = new TreeMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Signalled when a sooner reminder arrives or the scheduler closes. */
+    private final Condition changed = lock.newCondition();
+
+    private Thread thread;
+
+    private boolean isClosed;
+
+    /**
+     * Constructs a ReminderScheduler. Reminders are only delivered by {@link #deliverDue()}
+     * until {@link #start()} is called.
+     *
+     * @param clock Clock giving the current time.
+     * @param deadlineLead How long before a deadline is due to remind of it.
+     * @param eventLead How long before an event starts to remind of it.
+     * @param notifier Receives each reminder message, on the reminder thread.
+     */
+    public ReminderScheduler(Clock clock, Duration deadlineLead, Duration eventLead, Consumer<String> notifier) {
+        this.clock = clock;
+        this.deadlineLead = deadlineLead;
+        this.eventLead = eventLead;
+        this.notifier = notifier;
+    }
+
+    /**
+     * Starts the thread that delivers reminders as they fall due.
+     */
+    public void start() {
+        assert thread == null : "Reminder scheduler already started";
+        thread = new Thread(this::run, "cherish-reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues a reminder for a task, unless it is already due or past.
+     */
+    @Override
+    public void scheduled(Task task, LocalDateTime dueTime) {
+        if (!dueTime.isAfter(LocalDateTime.now(clock))) {
+            return;
+        }
+        LocalDateTime remindAt = dueTime.minus(task instanceof Deadline ? deadlineLead : eventLead);
+
+        lock.lock();
+        try {
+            boolean isSoonest = reminders.isEmpty() || remindAt.isBefore(reminders.firstKey());
+            reminders.computeIfAbsent(remindAt, key -> Collections.newSetFromMap(new IdentityHashMap<>(2))).add(task);
+            if (isSoonest) {
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the reminder for a task, if it has not been delivered.
+     * The thread is not woken; if it was waiting for this reminder it finds nothing due and waits again.
+     */
+    @Override
+    public void cancelled(Task task, LocalDateTime dueTime) {
+        LocalDateTime remindAt = dueTime.minus(task instanceof Deadline ? deadlineLead : eventLead);
+
+        lock.lock();
+        try {
+            Set<Task> tasks = reminders.get(remindAt);
+            if (tasks != null && tasks.remove(task) && tasks.isEmpty()) {
+                reminders.remove(remindAt);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Delivers every reminder whose time has come, soonest first.
+     *
+     * @return Number of reminders delivered.
+     */
+    public int deliverDue() {
+        List<Task> dueTasks = takeDue();
+        for (Task task : dueTasks) {
+            notifier.accept(formatReminder(task));
+        }
+        return dueTasks.size();
+    }
+
+    /**
+     * Returns the number of reminders waiting.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return reminders.values().stream().mapToInt(Set::size).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the reminder thread. Reminders not yet due are dropped.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            isClosed = true;
+            reminders.clear();
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private void run() {
+        while (awaitDue()) {
+            deliverDue();
+        }
+    }
+
+    /**
+     * Waits until the earliest reminder is due.
+     *
+     * @return False once the scheduler is closed.
+     */
+    private boolean awaitDue() {
+        lock.lock();
+        try {
+            while (!isClosed) {
+                if (reminders.isEmpty()) {
+                    changed.await();
+                    continue;
+                }
+                Duration wait = Duration.between(LocalDateTime.now(clock), reminders.firstKey());
+                if (wait.isNegative() || wait.isZero()) {
+                    return true;
+                }
+                changed.await(wait.toMillis() + 1, TimeUnit.MILLISECONDS);
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Task> takeDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Task> dueTasks = new ArrayList<>();
+        lock.lock();
+        try {
+            Map<LocalDateTime, Set<Task>> due = reminders.headMap(now, true);
+            due.values().forEach(dueTasks::addAll);
+            due.clear();
+        } finally {
+            lock.unlock();
+        }
+        return dueTasks;
+    }
+
+    private static String formatReminder(Task task) {
+        return (task instanceof Deadline
+                ? "Reminder! This task is due soon:\n  "
+                : "Reminder! This event is starting soon:\n  ")
+                + task;
+    }
+}
@@ -0,0 +1,64 @@
+package cherish.command;
+
+import cherish.CherishException;
+import cherish.model.Task;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+/**
+ * Command to delete several tasks at once, e.g. {@code delete 4,9,12}.
+ * The tasks are removed as one undoable step and saved with a single write.
+ */
+public class BulkDeleteCommand extends Command {
+
+    private final TaskSelection selection;
+
+    /** The tasks removed by the last execution, for the undo message. */
+    private Task[] removedTasks;
+
+    /**
+     * Constructs a BulkDeleteCommand.
+     *
+     * @param selection The tasks to delete.
+     */
+    public BulkDeleteCommand(TaskSelection selection) {
+        this.selection = selection;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        int[] indexes = selection.resolve(tasks);
+
+        recordVersion(tasks);
+        removedTasks = tasks.removeAll(indexes);
+        storage.saveRemoved(tasks, indexes);
+
+        return "Alright, I've removed " + countTasks() + " for you"
+                + TaskSelection.formatTasks(removedTasks)
+                + buildCountMessage(tasks.size());
+    }
+
+    @Override
+    public String undo(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        restoreVersion(tasks, storage);
+        return "They're back! I've restored " + countTasks()
+                + TaskSelection.formatTasks(removedTasks)
+                + buildCountMessage(tasks.size());
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private String countTasks() {
+        return removedTasks.length + (removedTasks.length == 1 ? " task" : " tasks");
+    }
+
+    private String buildCountMessage(int taskCount) {
+        return "\nNow you have "
+                + taskCount
+                + (taskCount == 1 ? " task" : " tasks")
+                + " in your list.";
+    }
+}
@@ -0,0 +1,91 @@
+package cherish.command;
+
+import java.util.Arrays;
+
+import cherish.CherishException;
+import cherish.model.Task;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+/**
+ * Command to mark or unmark several tasks at once, e.g. {@code mark 1-300}.
+ * The tasks are changed as one undoable step and saved with a single write.
+ */
+public class BulkMarkCommand extends Command {
+
+    private final TaskSelection selection;
+    private final boolean isDone;
+
+    /** The tasks changed by the last execution, for the undo message. */
+    private Task[] changedTasks;
+
+    /**
+     * Constructs a BulkMarkCommand.
+     *
+     * @param selection The tasks to change.
+     * @param isDone True to mark the tasks as done, false to mark them as not done.
+     */
+    public BulkMarkCommand(TaskSelection selection, boolean isDone) {
+        this.selection = selection;
+        this.isDone = isDone;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        int[] selected = selection.resolve(tasks);
+
+        // Tasks already in the wanted state are left alone, so undo does not change them either.
+        int[] indexes = Arrays.stream(selected)
+                .filter(index -> tasks.getByIndex(index).isDone() != isDone)
+                .toArray();
+        if (indexes.length == 0) {
+            throw new CherishException(isDone
+                    ? "Looks like these tasks are already done "
+                    : "Hmm~ these tasks are already not done ");
+        }
+
+        recordVersion(tasks);
+        changedTasks = new Task[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            if (isDone) {
+                tasks.markAsDone(indexes[i]);
+            } else {
+                tasks.markAsNotDone(indexes[i]);
+            }
+            changedTasks[i] = tasks.getByIndex(indexes[i]);
+        }
+        storage.saveMarked(tasks, indexes, isDone);
+
+        return buildMessage(selected.length - indexes.length);
+    }
+
+    @Override
+    public String undo(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        restoreVersion(tasks, storage);
+        return (isDone
+                ? "That's okay - I've marked " + countTasks() + " as not done again"
+                : "Done! I've marked " + countTasks() + " as completed again")
+                + TaskSelection.formatTasks(changedTasks);
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private String buildMessage(int unchangedCount) {
+        String message = (isDone
+                ? "Yay! I've marked " + countTasks() + " as done:)"
+                : "No problem! I've marked " + countTasks() + " as not done")
+                + TaskSelection.formatTasks(changedTasks);
+        if (unchangedCount > 0) {
+            message += "\n" + unchangedCount + (unchangedCount == 1 ? " other task was" : " other tasks were")
+                    + " already " + (isDone ? "done." : "not done.");
+        }
+        return message;
+    }
+
+    private String countTasks() {
+        return changedTasks.length + (changedTasks.length == 1 ? " task" : " tasks");
+    }
+}
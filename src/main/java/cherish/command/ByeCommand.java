@@ -1,17 +1,20 @@
 package cherish.command;
 
+import cherish.CherishException;
 import cherish.model.TaskList;
 import cherish.storage.Storage;
 import cherish.ui.Ui;
 
 /**
  * Command to terminate the Cherish application.
- * When executed, it signals the application loop to stop.
+ * When executed, it writes out any changes still queued in storage
+ * and signals the application loop to stop.
  */
 public class ByeCommand extends Command {
 
     @Override
-    public String execute(TaskList tasks, Ui ui, Storage storage) {
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        storage.flush();
         ui.showBye();
         return null; // No output needed from the command itself, handled by ui.showGoodbye()
     }
@@ -1,7 +1,12 @@
 package cherish.command;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import cherish.CherishException;
+import cherish.model.Task;
 import cherish.model.TaskList;
+import cherish.model.TaskListVersion;
 import cherish.storage.Storage;
 import cherish.ui.Ui;
 
@@ -10,6 +15,10 @@ import cherish.ui.Ui;
  * Concrete command classes must implement the execute method.
  */
 public abstract class Command {
+
+    /** Version of the task list from before this command changed it, or null if there is nothing to undo. */
+    private TaskListVersion versionBefore;
+
     /**
      * Executes the command using the provided task list, user interface, and storage.
      *
@@ -51,4 +60,61 @@ public abstract class Command {
     public boolean isUndoable() {
         return true;
     }
+
+    /**
+     * Remembers the current version of the task list, for {@link #restoreVersion} to return to.
+     * Undoable commands call this before they change the list.
+     *
+     * @param tasks The task list about to be changed.
+     */
+    protected void recordVersion(TaskList tasks) {
+        versionBefore = tasks.checkpoint();
+    }
+
+    /**
+     * Restores the task list to the version recorded before this command changed it, and saves the result.
+     * A single reversed change is saved on its own; several, e.g. from a bulk command, are saved
+     * with one write of the whole list.
+     *
+     * @param tasks The task list to restore.
+     * @param storage The storage to save the reversed changes to.
+     * @throws CherishException If the command has not changed the list, or saving fails.
+     */
+    protected void restoreVersion(TaskList tasks, Storage storage) throws CherishException {
+        if (versionBefore == null) {
+            throw new CherishException("There is nothing to undo for this command.");
+        }
+
+        List<StorageAction> saves = new ArrayList<>();
+        tasks.restore(versionBefore, new TaskList.ChangeListener() {
+            @Override
+            public void inserted(int index, Task task) {
+                saves.add(() -> storage.saveInserted(tasks, index, task));
+            }
+
+            @Override
+            public void removed(int index) {
+                saves.add(() -> storage.saveRemoved(tasks, index));
+            }
+
+            @Override
+            public void marked(int index, boolean isDone) {
+                saves.add(() -> storage.saveMarked(tasks, index, isDone));
+            }
+        });
+        versionBefore = null;
+
+        if (saves.size() == 1) {
+            saves.get(0).run();
+        } else if (saves.size() > 1) {
+            storage.save(tasks.toArray());
+        }
+    }
+
+    /**
+     * A write to storage, deferred until the whole undo is known.
+     */
+    private interface StorageAction {
+        void run() throws CherishException;
+    }
 }
@@ -0,0 +1,25 @@
+package cherish.command;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+/**
+ * Command to show how many tasks are done and how many are still to do.
+ */
+public class CountCommand extends Command {
+
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        int total = tasks.size();
+        int done = tasks.countDone();
+        return "You have " + total + (total == 1 ? " task" : " tasks") + " in your list: "
+                + done + " done, " + (total - done) + " still to do.";
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+}
@@ -21,6 +21,9 @@ public class DeadlineCommand extends Command {
     private final String description;
     private final String byString;
 
+    /** The deadline added by the last execution, for the undo message. */
+    private Deadline added;
+
     /**
      * Creates a DeadlineCommand.
      *
@@ -37,22 +40,19 @@ public class DeadlineCommand extends Command {
         LocalDateTime by = parseDateTime(byString);
 
         Deadline deadline = new Deadline(description, by);
+        recordVersion(tasks);
         tasks.add(deadline);
+        added = deadline;
 
-        saveTasks(storage, tasks);
+        storage.saveAdded(tasks, deadline);
 
         return buildSuccessMessage(deadline, tasks.size());
     }
 
     @Override
     public String undo(TaskList tasks, Ui ui, Storage storage) throws CherishException {
-        // Since DeadlineCommand always adds a task to the end of the list,
-        // undoing means removing the last task added.
-        Deadline removedDeadline = (Deadline) tasks.pop(); // Cast because pop returns Task
-
-        saveTasks(storage, tasks);
-
-        return buildUndoMessage(removedDeadline, tasks.size());
+        restoreVersion(tasks, storage);
+        return buildUndoMessage(added, tasks.size());
     }
 
     /* =========================
@@ -69,13 +69,10 @@ public class DeadlineCommand extends Command {
         }
     }
 
-    private void saveTasks(Storage storage, TaskList tasks) throws CherishException {
-        storage.save(tasks.toArray());
-    }
-
     private String buildSuccessMessage(Deadline deadline, int taskCount) {
         return "All set! I've added this task for you:) \n  "
                 + deadline
+                + "  (#" + deadline.getId() + ")"
                 + "\nNow you have "
                 + taskCount
                 + (taskCount == 1 ? " task" : " tasks")
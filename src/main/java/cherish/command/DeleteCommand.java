@@ -11,28 +11,41 @@ import cherish.ui.Ui;
  */
 public class DeleteCommand extends Command {
 
-    private final int index;
+    private final TaskReference reference;
+
+    /** Position of the task, resolved from the reference when the command is executed. */
+    private int index;
 
     private Task removedTask;
-    private int removedIndex;
     /**
      * Creates a DeleteCommand.
      *
      * @param index Zero-based index of the task to delete.
      */
     public DeleteCommand(int index) {
-        this.index = index;
+        this(TaskReference.ofIndex(index));
+    }
+
+    /**
+     * Creates a DeleteCommand for the task at a position or with a stable ID.
+     *
+     * @param reference Position or ID of the task to be deleted.
+     */
+    public DeleteCommand(TaskReference reference) {
+        this.reference = reference;
+        this.index = reference.getIndex();
     }
 
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        index = reference.resolve(tasks);
         validateIndex(tasks);
 
         Task deletedTask = tasks.getByIndex(index);
         removedTask = deletedTask;
-        removedIndex = index;
+        recordVersion(tasks);
         tasks.remove(index);
-        saveTasks(storage, tasks);
+        storage.saveRemoved(tasks, index);
 
         return buildSuccessMessage(deletedTask, tasks.size());
     }
@@ -44,10 +57,7 @@ public class DeleteCommand extends Command {
             throw new CherishException("Cannot undo DeleteCommand: no task was removed during execution.");
         }
 
-        // Re-add the stored task at its original index using the new method
-        tasks.addByIndex(removedIndex, removedTask);
-
-        saveTasks(storage, tasks);
+        restoreVersion(tasks, storage);
 
         return buildUndoMessage(removedTask, tasks.size());
     }
@@ -64,10 +74,6 @@ public class DeleteCommand extends Command {
         }
     }
 
-    private void saveTasks(Storage storage, TaskList tasks) throws CherishException {
-        storage.save(tasks.toArray());
-    }
-
     private String buildSuccessMessage(Task deletedTask, int taskCount) {
         return "Alright, I've removed this task for you \n  "
                 + deletedTask
@@ -23,6 +23,9 @@ public class EventCommand extends Command {
     private final String fromString;
     private final String toString;
 
+    /** The event added by the last execution, for the undo message. */
+    private Event added;
+
     /**
      * Creates an EventCommand.
      *
@@ -44,22 +47,19 @@ public class EventCommand extends Command {
         validateTimeRange(from, to);
 
         Event event = new Event(description, from, to);
+        recordVersion(tasks);
         tasks.add(event);
+        added = event;
 
-        saveTasks(storage, tasks);
+        storage.saveAdded(tasks, event);
 
         return buildSuccessMessage(event, tasks.size());
     }
 
     @Override
     public String undo(TaskList tasks, Ui ui, Storage storage) throws CherishException {
-        // Since EventCommand always adds a task to the end of the list,
-        // undoing means removing the last task added.
-        Event removedEvent = (Event) tasks.pop(); // Cast because pop returns Task, but we know it was an Event
-
-        saveTasks(storage, tasks);
-
-        return buildUndoMessage(removedEvent, tasks.size());
+        restoreVersion(tasks, storage);
+        return buildUndoMessage(added, tasks.size());
     }
 
     /* =========================
@@ -83,13 +83,10 @@ public class EventCommand extends Command {
         }
     }
 
-    private void saveTasks(Storage storage, TaskList tasks) throws CherishException {
-        storage.save(tasks.toArray());
-    }
-
     private String buildSuccessMessage(Event event, int taskCount) {
         return "Yay! I've added this event:) \n  "
                 + event
+                + "  (#" + event.getId() + ")"
                 + "\nNow you have "
                 + taskCount
                 + (taskCount == 1 ? " task" : " tasks")
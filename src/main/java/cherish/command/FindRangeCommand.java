@@ -0,0 +1,40 @@
+package cherish.command;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+/**
+ * Command to find and display all tasks scheduled between two dates, one page at a time.
+ * Delegates the search functionality to the TaskList.
+ */
+public class FindRangeCommand extends Command {
+
+    private String startString;
+    private String endString;
+    private int page;
+
+    /**
+     * Constructs a FindRangeCommand for the given dates and page.
+     *
+     * @param startString The first date in the format "yyyy-MM-dd" (e.g., "2026-02-01").
+     * @param endString The last date in the format "yyyy-MM-dd", inclusive.
+     * @param page The 1-based page of results to show.
+     */
+    public FindRangeCommand(String startString, String endString, int page) {
+        this.startString = startString;
+        this.endString = endString;
+        this.page = page;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        return tasks.findTasksInRange(startString, endString, page);
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+}
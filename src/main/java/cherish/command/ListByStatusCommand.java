@@ -0,0 +1,33 @@
+package cherish.command;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+/**
+ * Command to display only the completed tasks, or only the tasks still to do.
+ */
+public class ListByStatusCommand extends Command {
+
+    private final boolean isDone;
+
+    /**
+     * Constructs a ListByStatusCommand.
+     *
+     * @param isDone True to list completed tasks, false to list tasks still to do.
+     */
+    public ListByStatusCommand(boolean isDone) {
+        this.isDone = isDone;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        return tasks.getListStringByStatus(isDone);
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+}
@@ -6,14 +6,44 @@ import cherish.storage.Storage;
 import cherish.ui.Ui;
 
 /**
- * Command to display the current list of all tasks.
- * Delegates the string generation to the TaskList.
+ * Command to display the current list of tasks, either whole or one page at a time.
+ * In console mode the whole list is streamed to the Ui line by line;
+ * the GUI only ever shows a single page.
  */
 public class ListCommand extends Command {
 
+    private final int page;
+    private final int pageSize;
+
+    /**
+     * Constructs a ListCommand that shows the whole list.
+     */
+    public ListCommand() {
+        this(0, TaskList.LIST_PAGE_SIZE);
+    }
+
+    /**
+     * Constructs a ListCommand that shows one page of the list.
+     *
+     * @param page The 1-based page to show.
+     * @param pageSize The number of tasks per page.
+     */
+    public ListCommand(int page, int pageSize) {
+        this.page = page;
+        this.pageSize = pageSize;
+    }
+
     @Override
-    public String execute(TaskList tasks, Ui ui, Storage storage) {
-        return tasks.getListString();
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        if (page > 0) {
+            return tasks.getListPage(page, pageSize);
+        }
+        if (ui.isGuiMode() || tasks.size() == 0) {
+            return tasks.getListPage(1, pageSize);
+        }
+
+        ui.showLines(tasks.getListHeader(), tasks.getListLines(0));
+        return null;
     }
 
     @Override
@@ -11,7 +11,10 @@ import cherish.ui.Ui;
  */
 public class MarkCommand extends Command {
 
-    private final int index;
+    private final TaskReference reference;
+
+    /** Position of the task, resolved from the reference when the command is executed. */
+    private int index;
 
     /**
      * Constructs a MarkCommand with the specified task index.
@@ -19,27 +22,36 @@ public class MarkCommand extends Command {
      * @param index The zero-based index of the task to be marked as done.
      */
     public MarkCommand(int index) {
-        this.index = index;
+        this(TaskReference.ofIndex(index));
+    }
+
+    /**
+     * Constructs a MarkCommand for the task at a position or with a stable ID.
+     *
+     * @param reference Position or ID of the task to be marked as done.
+     */
+    public MarkCommand(TaskReference reference) {
+        this.reference = reference;
+        this.index = reference.getIndex();
     }
 
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        index = reference.resolve(tasks);
         Task task = getValidTaskForMark(tasks);
 
+        recordVersion(tasks);
         tasks.markAsDone(index);
-        saveTasks(storage, tasks);
+        storage.saveMarked(tasks, index, true);
 
         return buildMessage(task);
     }
 
     @Override
     public String undo(TaskList tasks, Ui ui, Storage storage) throws CherishException {
-        Task task = getValidTaskForUndo(tasks);
-
-        tasks.markAsNotDone(index);
-        saveTasks(storage, tasks);
+        restoreVersion(tasks, storage);
 
-        return buildUndoMessage(task);
+        return buildUndoMessage(tasks.getByIndex(index));
     }
 
     /* =========================
@@ -59,19 +71,6 @@ public class MarkCommand extends Command {
         return task;
     }
 
-    /** Validates the task for undoing a mark operation. */
-    private Task getValidTaskForUndo(TaskList tasks) throws CherishException {
-        Task task = getTaskByIndex(tasks);
-
-        if (!task.isDone()) {
-            throw new CherishException(
-                    "Hmm~ this task is already not done "
-            );
-        }
-
-        return task;
-    }
-
     /** Returns the task at index or throws if index is invalid. */
     private Task getTaskByIndex(TaskList tasks) throws CherishException {
         if (index < 0 || index >= tasks.size()) {
@@ -84,10 +83,6 @@ public class MarkCommand extends Command {
         return tasks.getByIndex(index);
     }
 
-    private void saveTasks(Storage storage, TaskList tasks) throws CherishException {
-        storage.save(tasks.toArray());
-    }
-
     /** Builds a user-friendly success message. */
     private String buildMessage(Task task) {
         return "Yay! This task is done:) \n  " + task;
@@ -0,0 +1,43 @@
+package cherish.command;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+/**
+ * Command to show the deadlines still to do that are past their due time.
+ */
+public class OverdueCommand extends Command {
+
+    private final Clock clock;
+
+    /**
+     * Constructs an OverdueCommand that uses the system clock.
+     */
+    public OverdueCommand() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs an OverdueCommand.
+     *
+     * @param clock Clock giving the current time.
+     */
+    public OverdueCommand(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        return tasks.findOverdueTasks(LocalDateTime.now(clock));
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+}
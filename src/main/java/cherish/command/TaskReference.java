@@ -0,0 +1,62 @@
+package cherish.command;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+
+/**
+ * Refers to a task either by its position in the list or by its stable ID,
+ * as in {@code mark 3} or {@code mark #1234}.
+ */
+public final class TaskReference {
+
+    private final int index;
+    private final long id;
+
+    private TaskReference(int index, long id) {
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Refers to the task at a position in the list.
+     *
+     * @param index Zero-based index of the task.
+     * @return The reference.
+     */
+    public static TaskReference ofIndex(int index) {
+        return new TaskReference(index, 0);
+    }
+
+    /**
+     * Refers to the task with a stable ID, wherever it is in the list.
+     *
+     * @param id Positive ID of the task.
+     * @return The reference.
+     */
+    public static TaskReference ofId(long id) {
+        assert id > 0 : "Task ID must be positive: " + id;
+        return new TaskReference(-1, id);
+    }
+
+    /**
+     * Returns the index given by a position, or -1 for an ID that has not been resolved yet.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Finds the current position of the task.
+     * A position is returned as is, for the command to check against the list size.
+     *
+     * @param tasks The task list.
+     * @return Zero-based index of the task.
+     * @throws CherishException If no task has the referenced ID.
+     */
+    int resolve(TaskList tasks) throws CherishException {
+        if (id == 0) {
+            return index;
+        }
+        return tasks.getIndexById(id);
+    }
+}
@@ -0,0 +1,97 @@
+package cherish.command;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import cherish.CherishException;
+import cherish.model.Task;
+import cherish.model.TaskList;
+
+/**
+ * Refers to several tasks at once, by ranges of positions and by single references,
+ * as in {@code mark 1-300} or {@code delete 4,9,#12}.
+ */
+public final class TaskSelection {
+
+    /** Number of tasks listed in messages; the rest are only counted. */
+    private static final int MAX_LISTED_TASKS = 10;
+
+    /** Ranges of zero-based positions, each as {first, last} inclusive. */
+    private final List<int[]> ranges = new ArrayList<>();
+
+    private final List<TaskReference> references = new ArrayList<>();
+
+    /**
+     * Adds the tasks at a range of positions.
+     *
+     * @param first Zero-based index of the first task.
+     * @param last Zero-based index of the last task, inclusive.
+     * @return This selection.
+     */
+    public TaskSelection addRange(int first, int last) {
+        assert 0 <= first && first <= last : "Invalid range: " + first + "-" + last;
+        ranges.add(new int[] {first, last});
+        return this;
+    }
+
+    /**
+     * Adds a single task, by position or by ID.
+     *
+     * @param reference Reference to the task.
+     * @return This selection.
+     */
+    public TaskSelection add(TaskReference reference) {
+        references.add(reference);
+        return this;
+    }
+
+    /**
+     * Finds the current positions of the selected tasks.
+     *
+     * @param tasks The task list.
+     * @return Zero-based indexes in ascending order, each once.
+     * @throws CherishException If a position is out of range or no task has a selected ID.
+     */
+    int[] resolve(TaskList tasks) throws CherishException {
+        BitSet selected = new BitSet(tasks.size());
+        for (int[] range : ranges) {
+            checkIndex(range[1], tasks);
+            selected.set(range[0], range[1] + 1);
+        }
+        for (TaskReference reference : references) {
+            int index = reference.resolve(tasks);
+            checkIndex(index, tasks);
+            selected.set(index);
+        }
+        return selected.stream().toArray();
+    }
+
+    /**
+     * Formats tasks for a message, one per indented line, listing only the first few of a long selection.
+     */
+    static String formatTasks(Task[] tasks) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < Math.min(tasks.length, MAX_LISTED_TASKS); i++) {
+            result.append("\n  ").append(tasks[i]);
+        }
+        if (tasks.length > MAX_LISTED_TASKS) {
+            result.append("\n  ...and ").append(tasks.length - MAX_LISTED_TASKS).append(" more");
+        }
+        return result.toString();
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private static void checkIndex(int index, TaskList tasks) throws CherishException {
+        if (index < 0 || index >= tasks.size()) {
+            throw new CherishException(
+                    "Task number out of range! You have "
+                            + tasks.size()
+                            + (tasks.size() == 1 ? " task." : " tasks.")
+            );
+        }
+    }
+}
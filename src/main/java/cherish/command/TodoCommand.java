@@ -14,6 +14,9 @@ public class TodoCommand extends Command {
 
     private final String description;
 
+    /** The todo added by the last execution, for the undo message. */
+    private Todo added;
+
     /**
      * Constructs a TodoCommand with the given task description.
      *
@@ -26,37 +29,30 @@ public class TodoCommand extends Command {
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
         Todo todo = new Todo(description);
+        recordVersion(tasks);
         tasks.add(todo);
+        added = todo;
 
-        saveTasks(storage, tasks);
+        storage.saveAdded(tasks, todo);
 
         return buildMessage(todo, tasks);
     }
 
     @Override
     public String undo(TaskList tasks, Ui ui, Storage storage) throws CherishException {
-        // Since TodoCommand always adds a task to the end of the list,
-        // undoing means removing the last task added.
-        Todo removedTodo = (Todo) tasks.pop(); // Cast because pop returns Task, but we know it was a Todo
-
-        saveTasks(storage, tasks);
-
-        return buildUndoMessage(removedTodo, tasks.size());
+        restoreVersion(tasks, storage);
+        return buildUndoMessage(added, tasks.size());
     }
 
     /* =========================
        Helper methods
        ========================= */
 
-    /** Saves the current task list to persistent storage. */
-    private void saveTasks(Storage storage, TaskList tasks) throws CherishException {
-        storage.save(tasks.toArray());
-    }
-
     /** Builds a user-friendly message for task addition. */
     private String buildMessage(Todo todo, TaskList tasks) {
         return "All set! I've added this task for you:) \n  "
                 + todo
+                + "  (#" + todo.getId() + ")"
                 + "\nNow you have "
                 + tasks.size()
                 + (tasks.size() == 1 ? " task" : " tasks")
@@ -12,7 +12,10 @@ import cherish.ui.Ui;
  */
 public class UnmarkCommand extends Command {
 
-    private final int index;
+    private final TaskReference reference;
+
+    /** Position of the task, resolved from the reference when the command is executed. */
+    private int index;
 
     /**
      * Constructs an UnmarkCommand with the specified task index.
@@ -20,25 +23,35 @@ public class UnmarkCommand extends Command {
      * @param index The zero-based index of the task to be marked as not done.
      */
     public UnmarkCommand(int index) {
-        this.index = index;
+        this(TaskReference.ofIndex(index));
+    }
+
+    /**
+     * Constructs a UnmarkCommand for the task at a position or with a stable ID.
+     *
+     * @param reference Position or ID of the task to be marked as not done.
+     */
+    public UnmarkCommand(TaskReference reference) {
+        this.reference = reference;
+        this.index = reference.getIndex();
     }
 
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        index = reference.resolve(tasks);
         Task task = getValidTaskForUnmark(tasks);
 
+        recordVersion(tasks);
         tasks.markAsNotDone(index);
-        saveTasks(storage, tasks);
+        storage.saveMarked(tasks, index, false);
 
         return buildMessage(task);
     }
 
     @Override
     public String undo(TaskList tasks, Ui ui, Storage storage) throws CherishException {
-        Task task = getValidTaskForUndo(tasks);
-        tasks.markAsDone(index);
-        saveTasks(storage, tasks);
-        return buildUndoMessage(task);
+        restoreVersion(tasks, storage);
+        return buildUndoMessage(tasks.getByIndex(index));
     }
 
     /* =========================
@@ -56,22 +69,6 @@ public class UnmarkCommand extends Command {
         return task;
     }
 
-    /** Validates the task for undoing an unmark operation. */
-    private Task getValidTaskForUndo(TaskList tasks) throws CherishException {
-        Task task = getTaskByIndex(tasks);
-        if (task.isDone()) {
-            throw new CherishException(
-                    "Looks like this task is already done "
-            );
-        }
-        return task;
-    }
-
-    /** Saves the current task list to persistent storage. */
-    private void saveTasks(Storage storage, TaskList tasks) throws CherishException {
-        storage.save(tasks.toArray());
-    }
-
     /** Returns the task at index or throws if index is invalid. */
     private Task getTaskByIndex(TaskList tasks) throws CherishException {
         if (index < 0 || index >= tasks.size()) {
@@ -0,0 +1,49 @@
+package cherish.command;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+/**
+ * Command to show the next deadlines and events still to do, soonest first.
+ */
+public class UpcomingCommand extends Command {
+
+    private final int count;
+
+    private final Clock clock;
+
+    /**
+     * Constructs an UpcomingCommand that uses the system clock.
+     *
+     * @param count Maximum number of tasks to show.
+     */
+    public UpcomingCommand(int count) {
+        this(count, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs an UpcomingCommand.
+     *
+     * @param count Maximum number of tasks to show.
+     * @param clock Clock giving the current time.
+     */
+    public UpcomingCommand(int count, Clock clock) {
+        this.count = count;
+        this.clock = clock;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Ui ui, Storage storage) throws CherishException {
+        return tasks.findUpcomingTasks(count, LocalDateTime.now(clock));
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+}
@@ -0,0 +1,284 @@
+package cherish.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import cherish.CherishException;
+
+/**
+ * Memory-compact store of a task list, kept in primitive columns instead of one object graph per task.
+ *
+ * Each task takes a type byte, a bit for its completion status, its ID, two epoch-minute dates
+ * and the offset and length of its UTF-8 description in a shared byte arena; about 30 bytes
+ * plus the description, against several hundred for a {@link TaskList} with its indexes.
+ * It suits keeping many idle task lists in memory, e.g. one per user, and turning a list
+ * back into a {@link TaskList} when it is used.
+ *
+ * {@link #get(int)} creates a new Task on every call. Changes to that task are not stored;
+ * use {@link #setDone(int, boolean)} instead. Dates are kept to the minute, like the storage file.
+ */
+public final class CompactTaskStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int INITIAL_ARENA_BYTES = 256;
+
+    private byte[] types;
+    private final BitSet done = new BitSet();
+    private long[] ids;
+
+    /** Deadline due date or event start, in minutes since the epoch in UTC. */
+    private long[] firstMinutes;
+
+    /** Event end, in minutes since the epoch in UTC. */
+    private long[] secondMinutes;
+
+    private int[] descriptionOffsets;
+    private int[] descriptionLengths;
+
+    /** UTF-8 descriptions, in the order they were added. */
+    private byte[] arena;
+
+    private int arenaSize;
+
+    /** Bytes of the arena no longer referenced after removals. */
+    private int unusedArenaBytes;
+
+    private int size;
+
+    /**
+     * Constructs an empty CompactTaskStore.
+     */
+    public CompactTaskStore() {
+        types = new byte[INITIAL_CAPACITY];
+        ids = new long[INITIAL_CAPACITY];
+        firstMinutes = new long[INITIAL_CAPACITY];
+        secondMinutes = new long[INITIAL_CAPACITY];
+        descriptionOffsets = new int[INITIAL_CAPACITY];
+        descriptionLengths = new int[INITIAL_CAPACITY];
+        arena = new byte[INITIAL_ARENA_BYTES];
+    }
+
+    /**
+     * Constructs a CompactTaskStore holding the given tasks.
+     *
+     * @param tasks Tasks to store, in list order, e.g. from {@link TaskList#toArray()}.
+     * @throws CherishException If the descriptions do not fit in the arena.
+     */
+    public CompactTaskStore(Task[] tasks) throws CherishException {
+        this();
+        ensureCapacity(tasks.length);
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a copy of a task.
+     *
+     * @param task The task to store. Later changes to it are not reflected in the store.
+     * @throws CherishException If the descriptions no longer fit in the arena.
+     */
+    public void add(Task task) throws CherishException {
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(size + 1);
+        ensureArenaCapacity(description.length);
+
+        int index = size;
+        types[index] = (byte) task.getType().getSymbol().charAt(0);
+        done.set(index, task.isDone());
+        ids[index] = task.getId();
+        if (task instanceof Deadline d) {
+            firstMinutes[index] = toEpochMinutes(d.getBy());
+        } else if (task instanceof Event e) {
+            firstMinutes[index] = toEpochMinutes(e.getFrom());
+            secondMinutes[index] = toEpochMinutes(e.getTo());
+        }
+
+        System.arraycopy(description, 0, arena, arenaSize, description.length);
+        descriptionOffsets[index] = arenaSize;
+        descriptionLengths[index] = description.length;
+        arenaSize += description.length;
+        size++;
+    }
+
+    /**
+     * Creates a task with the stored contents of the given position.
+     *
+     * @param index Zero-based index of the task.
+     * @return A new Task; changing it does not change the store.
+     */
+    public Task get(int index) {
+        checkIndex(index);
+        String description = new String(arena, descriptionOffsets[index], descriptionLengths[index],
+                StandardCharsets.UTF_8);
+        Task task;
+        try {
+            switch (types[index]) {
+            case 'D':
+                task = new Deadline(description, fromEpochMinutes(firstMinutes[index]));
+                break;
+
+            case 'E':
+                task = new Event(description, fromEpochMinutes(firstMinutes[index]),
+                        fromEpochMinutes(secondMinutes[index]));
+                break;
+
+            default:
+                task = new Todo(description);
+                break;
+            }
+        } catch (CherishException e) {
+            throw new AssertionError("Stored tasks are always valid", e);
+        }
+
+        if (done.get(index)) {
+            task.markAsDone();
+        }
+        task.setId(ids[index]);
+        return task;
+    }
+
+    public boolean isDone(int index) {
+        checkIndex(index);
+        return done.get(index);
+    }
+
+    /**
+     * Changes the completion status of the task at the given position.
+     */
+    public void setDone(int index, boolean isDone) {
+        checkIndex(index);
+        done.set(index, isDone);
+    }
+
+    public long getId(int index) {
+        checkIndex(index);
+        return ids[index];
+    }
+
+    /**
+     * Removes the task at the given position, shifting later tasks down.
+     * The description stays in the arena until unused bytes make up half of it.
+     *
+     * @param index Zero-based index of the task.
+     */
+    public void remove(int index) {
+        checkIndex(index);
+        unusedArenaBytes += descriptionLengths[index];
+
+        int tail = size - index - 1;
+        System.arraycopy(types, index + 1, types, index, tail);
+        System.arraycopy(ids, index + 1, ids, index, tail);
+        System.arraycopy(firstMinutes, index + 1, firstMinutes, index, tail);
+        System.arraycopy(secondMinutes, index + 1, secondMinutes, index, tail);
+        System.arraycopy(descriptionOffsets, index + 1, descriptionOffsets, index, tail);
+        System.arraycopy(descriptionLengths, index + 1, descriptionLengths, index, tail);
+
+        BitSet shifted = done.get(index + 1, size);
+        done.clear(index, size);
+        for (int i = shifted.nextSetBit(0); i >= 0; i = shifted.nextSetBit(i + 1)) {
+            done.set(index + i);
+        }
+
+        size--;
+        if (unusedArenaBytes > arenaSize / 2) {
+            compactArena();
+        }
+    }
+
+    /**
+     * Creates tasks for every position, e.g. for {@code new TaskList(store.toArray())}.
+     *
+     * @return New tasks, in list order.
+     */
+    public Task[] toArray() {
+        Task[] tasks = new Task[size];
+        for (int i = 0; i < size; i++) {
+            tasks[i] = get(i);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the heap used by the columns and the arena, including unused capacity.
+     *
+     * @return Size of the store in bytes, excluding object headers.
+     */
+    public long estimateMemoryBytes() {
+        long perSlot = Byte.BYTES + 3L * Long.BYTES + 2L * Integer.BYTES;
+        return perSlot * types.length + done.size() / Byte.SIZE + arena.length;
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= types.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, types.length + (types.length >> 1));
+        types = Arrays.copyOf(types, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+        firstMinutes = Arrays.copyOf(firstMinutes, newCapacity);
+        secondMinutes = Arrays.copyOf(secondMinutes, newCapacity);
+        descriptionOffsets = Arrays.copyOf(descriptionOffsets, newCapacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, newCapacity);
+    }
+
+    private void ensureArenaCapacity(int extraBytes) throws CherishException {
+        long required = (long) arenaSize + extraBytes;
+        if (required <= arena.length) {
+            return;
+        }
+        if (required - unusedArenaBytes > Integer.MAX_VALUE - 8) {
+            throw new CherishException("Too much task text to keep in memory.");
+        }
+        if (unusedArenaBytes > 0) {
+            compactArena();
+            required = (long) arenaSize + extraBytes;
+            if (required <= arena.length) {
+                return;
+            }
+        }
+        long newLength = Math.max(required, (long) arena.length + (arena.length >> 1));
+        arena = Arrays.copyOf(arena, (int) Math.min(newLength, Integer.MAX_VALUE - 8));
+    }
+
+    /**
+     * Moves the descriptions of the stored tasks together, dropping removed ones.
+     */
+    private void compactArena() {
+        byte[] compacted = new byte[Math.max(arenaSize - unusedArenaBytes, INITIAL_ARENA_BYTES)];
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(arena, descriptionOffsets[i], compacted, position, descriptionLengths[i]);
+            descriptionOffsets[i] = position;
+            position += descriptionLengths[i];
+        }
+        arena = compacted;
+        arenaSize = position;
+        unusedArenaBytes = 0;
+    }
+
+    private static long toEpochMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinutes(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,74 @@
+package cherish.model;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import cherish.CherishException;
+
+/**
+ * Shares a {@link TaskList} between threads.
+ *
+ * Changes run one at a time under a single writer lock. After each change the current
+ * {@link TaskSnapshot} is published, so readers on other threads, such as a renderer or a
+ * background saver, see a consistent list without taking the lock or waiting for writers.
+ * A reader holding an older snapshot keeps seeing the list as it was.
+ *
+ * The wrapped list must only be used through {@link #write(Update)} once it has been shared.
+ *
+ * This is a standalone wrapper: {@link cherish.Cherish} and the GUI still run every command, save and
+ * index update on the thread that calls them, and do not construct one.
+ */
+public final class ConcurrentTaskList {
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final TaskList tasks;
+
+    /** The snapshot published by the last change. */
+    private volatile TaskSnapshot snapshot;
+
+    /**
+     * Constructs a ConcurrentTaskList sharing the given list.
+     *
+     * @param tasks The list to share; it should not be used directly afterwards.
+     */
+    public ConcurrentTaskList(TaskList tasks) {
+        this.tasks = tasks;
+        this.snapshot = tasks.snapshot();
+    }
+
+    /**
+     * Runs a change to the list while holding the writer lock, then publishes the new snapshot.
+     * The snapshot is published even if the change fails part way, since it may have changed the list.
+     *
+     * @param update The change, e.g. {@code tasks -> command.execute(tasks, ui, storage)}.
+     * @return The result of the change.
+     * @throws CherishException If the change fails.
+     */
+    public <T> T write(Update<T> update) throws CherishException {
+        writeLock.lock();
+        try {
+            return update.apply(tasks);
+        } finally {
+            snapshot = tasks.snapshot();
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the list as of the last completed change, without blocking.
+     *
+     * @return Immutable snapshot of the list.
+     */
+    public TaskSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * A change to a task list, run by {@link #write(Update)}.
+     *
+     * @param <T> Type of the result of the change.
+     */
+    @FunctionalInterface
+    public interface Update<T> {
+        T apply(TaskList tasks) throws CherishException;
+    }
+}
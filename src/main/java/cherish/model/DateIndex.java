@@ -0,0 +1,250 @@
+package cherish.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Index of deadline dates and event date ranges, kept up to date by {@link TaskList}.
+ *
+ * Deadlines are kept in a sorted map by due date. Events are kept in an interval tree:
+ * a treap ordered by start date where every node also knows the latest end date below it,
+ * so subtrees that end before the queried range are skipped.
+ * A query costs O(log n + k) for k matches, plus sorting the matches into list order.
+ *
+ * Dates are compared by calendar day, as {@code finddate} does.
+ */
+final class DateIndex {
+
+    /** Rough heap sizes for the memory estimate: a tree map entry with its set, and a treap node. */
+    private static final int BYTES_PER_DEADLINE_DAY = 40 + 16 + 120;
+    private static final int BYTES_PER_DEADLINE = 20;
+    private static final int BYTES_PER_EVENT = 64 + 32;
+
+    private final TaskSequence order;
+
+    /** Deadlines by epoch day of their due date. */
+    private final TreeMap<Long, Set<Task>> deadlines = new TreeMap<>();
+
+    private int deadlineCount;
+
+    /** Tree nodes of the indexed events, for removal. */
+    private final Map<Task, EventNode> eventNodes = new IdentityHashMap<>();
+
+    private EventNode eventRoot;
+
+    /** Tie-breaker between events starting on the same day. */
+    private long nextEventId;
+
+    /**
+     * Constructs an empty DateIndex.
+     *
+     * @param order The tasks of the list, used to put matches in list order.
+     */
+    DateIndex(TaskSequence order) {
+        this.order = order;
+    }
+
+    /**
+     * Indexes a task added to the list. Tasks without dates are ignored.
+     */
+    void add(Task task) {
+        if (task instanceof Deadline d) {
+            long day = d.getBy().toLocalDate().toEpochDay();
+            deadlines.computeIfAbsent(day, key -> Collections.newSetFromMap(new IdentityHashMap<>(2))).add(task);
+            deadlineCount++;
+        } else if (task instanceof Event e) {
+            EventNode node = new EventNode(e, nextEventId++);
+            eventNodes.put(task, node);
+            eventRoot = insert(eventRoot, node);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     */
+    void remove(Task task) {
+        if (task instanceof Deadline d) {
+            long day = d.getBy().toLocalDate().toEpochDay();
+            Set<Task> tasks = deadlines.get(day);
+            if (tasks != null && tasks.remove(task)) {
+                deadlineCount--;
+                if (tasks.isEmpty()) {
+                    deadlines.remove(day);
+                }
+            }
+        } else if (task instanceof Event) {
+            EventNode node = eventNodes.remove(task);
+            if (node != null) {
+                eventRoot = delete(eventRoot, node);
+            }
+        }
+    }
+
+    /**
+     * Finds the deadlines due within the given days and the events overlapping them.
+     *
+     * @param start First day of the range.
+     * @param end Last day of the range, inclusive.
+     * @return Matching tasks in list order.
+     */
+    List<Task> findOverlapping(LocalDate start, LocalDate end) {
+        long startDay = start.toEpochDay();
+        long endDay = end.toEpochDay();
+
+        List<Task> matches = new ArrayList<>();
+        if (startDay <= endDay) {
+            for (Set<Task> tasks : deadlines.subMap(startDay, true, endDay, true).values()) {
+                matches.addAll(tasks);
+            }
+            collectOverlapping(eventRoot, startDay, endDay, matches);
+        }
+        order.sort(matches);
+        return matches;
+    }
+
+    long estimateMemoryBytes() {
+        return (long) deadlines.size() * BYTES_PER_DEADLINE_DAY
+                + (long) deadlineCount * BYTES_PER_DEADLINE
+                + (long) eventNodes.size() * BYTES_PER_EVENT;
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    /**
+     * Adds the events below the given node whose range overlaps [startDay, endDay].
+     */
+    private static void collectOverlapping(EventNode node, long startDay, long endDay, List<Task> matches) {
+        if (node == null || node.maxToDay < startDay) {
+            return;
+        }
+        collectOverlapping(node.left, startDay, endDay, matches);
+        if (node.fromDay <= endDay) {
+            if (node.toDay >= startDay) {
+                matches.add(node.event);
+            }
+            // Everything to the right starts no earlier than this node.
+            collectOverlapping(node.right, startDay, endDay, matches);
+        }
+    }
+
+    private static EventNode insert(EventNode root, EventNode node) {
+        if (root == null) {
+            return node;
+        }
+        if (node.isBefore(root)) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                return rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                return rotateLeft(root);
+            }
+        }
+        root.update();
+        return root;
+    }
+
+    private static EventNode delete(EventNode root, EventNode node) {
+        if (root == null) {
+            return null;
+        }
+        if (root == node) {
+            return merge(root.left, root.right);
+        }
+        if (node.isBefore(root)) {
+            root.left = delete(root.left, node);
+        } else {
+            root.right = delete(root.right, node);
+        }
+        root.update();
+        return root;
+    }
+
+    /**
+     * Joins two treaps where every node of the first comes before every node of the second.
+     */
+    private static EventNode merge(EventNode first, EventNode second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    private static EventNode rotateRight(EventNode node) {
+        EventNode left = node.left;
+        node.left = left.right;
+        node.update();
+        left.right = node;
+        left.update();
+        return left;
+    }
+
+    private static EventNode rotateLeft(EventNode node) {
+        EventNode right = node.right;
+        node.right = right.left;
+        node.update();
+        right.left = node;
+        right.update();
+        return right;
+    }
+
+    /**
+     * Node of the event treap, ordered by start day and then by id.
+     */
+    private static final class EventNode {
+        private final Event event;
+        private final long fromDay;
+        private final long toDay;
+        private final long id;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        /** Latest end day of this node and everything below it. */
+        private long maxToDay;
+
+        private EventNode left;
+        private EventNode right;
+
+        EventNode(Event event, long id) {
+            this.event = event;
+            this.fromDay = event.getFrom().toLocalDate().toEpochDay();
+            this.toDay = event.getTo().toLocalDate().toEpochDay();
+            this.id = id;
+            this.maxToDay = toDay;
+        }
+
+        boolean isBefore(EventNode other) {
+            return fromDay < other.fromDay || (fromDay == other.fromDay && id < other.id);
+        }
+
+        void update() {
+            maxToDay = toDay;
+            if (left != null) {
+                maxToDay = Math.max(maxToDay, left.maxToDay);
+            }
+            if (right != null) {
+                maxToDay = Math.max(maxToDay, right.maxToDay);
+            }
+        }
+    }
+}
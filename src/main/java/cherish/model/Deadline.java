@@ -52,9 +52,8 @@ public class Deadline extends Task {
     }
 
     @Override
-    public String toString() {
-        return super.toString()
-                + " (by: "
+    protected String getDisplayDetails() {
+        return " (by: "
                 + by.format(DISPLAY_FORMATTER)
                 + ")";
     }
@@ -62,9 +61,9 @@ public class Deadline extends Task {
     @Override
     public String toFileString() {
         return "D | "
-                + (isDone ? "1" : "0")
+                + (isDone() ? "1" : "0")
                 + " | "
-                + description
+                + getDescription()
                 + " | "
                 + by.format(INPUT_FORMATTER);
     }
@@ -0,0 +1,167 @@
+package cherish.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Index of the deadlines and events still to do, ordered by when they are due, kept up to date by {@link TaskList}.
+ *
+ * A deadline is due at its {@code by} time and an event at its {@code from} time. Deadlines and events are kept
+ * in two sorted maps by due time, so the next k of both, and the deadlines already past, are found in O(log n + k).
+ * Tasks due at the same time are ordered by ID. Completed tasks leave the index when they are marked
+ * and come back when they are unmarked.
+ */
+final class DueIndex {
+
+    /** Rough heap sizes for the memory estimate: a tree map entry with its set, and a set entry. */
+    private static final int BYTES_PER_DUE_TIME = 40 + 48 + 24;
+    private static final int BYTES_PER_TASK = 40;
+
+    /** Orders tasks due at the same time; IDs are unique within a list. */
+    private static final Comparator<Task> BY_ID = Comparator.comparingLong(Task::getId);
+
+    private final NavigableMap<LocalDateTime, Set<Task>> deadlines = new TreeMap<>();
+
+    private final NavigableMap<LocalDateTime, Set<Task>> events = new TreeMap<>();
+
+    private int taskCount;
+
+    /**
+     * Indexes a task added to the list or marked as not done.
+     * Tasks without a due time and completed tasks are ignored.
+     *
+     * @return True if the task was not in the index and now is.
+     */
+    boolean add(Task task) {
+        NavigableMap<LocalDateTime, Set<Task>> map = mapOf(task);
+        if (map == null || task.isDone()) {
+            return false;
+        }
+        Set<Task> tasks = map.computeIfAbsent(dueTime(task), key -> new TreeSet<>(BY_ID));
+        if (!tasks.add(task)) {
+            return false;
+        }
+        taskCount++;
+        return true;
+    }
+
+    /**
+     * Removes a task deleted from the list or marked as done.
+     *
+     * @return True if the task was in the index.
+     */
+    boolean remove(Task task) {
+        NavigableMap<LocalDateTime, Set<Task>> map = mapOf(task);
+        if (map == null) {
+            return false;
+        }
+        LocalDateTime dueTime = dueTime(task);
+        Set<Task> tasks = map.get(dueTime);
+        if (tasks == null || !tasks.remove(task)) {
+            return false;
+        }
+        taskCount--;
+        if (tasks.isEmpty()) {
+            map.remove(dueTime);
+        }
+        return true;
+    }
+
+    /**
+     * Finds the deadlines and events still to do that are due at or after the given time.
+     *
+     * @param now The current time.
+     * @param limit Maximum number of tasks to return.
+     * @return Up to {@code limit} tasks, soonest first.
+     */
+    List<Task> findUpcoming(LocalDateTime now, int limit) {
+        Iterator<Map.Entry<LocalDateTime, Set<Task>>> nextDeadlines =
+                deadlines.tailMap(now, true).entrySet().iterator();
+        Iterator<Map.Entry<LocalDateTime, Set<Task>>> nextEvents =
+                events.tailMap(now, true).entrySet().iterator();
+
+        List<Task> matches = new ArrayList<>();
+        Map.Entry<LocalDateTime, Set<Task>> deadline = nextOrNull(nextDeadlines);
+        Map.Entry<LocalDateTime, Set<Task>> event = nextOrNull(nextEvents);
+        while (matches.size() < limit && (deadline != null || event != null)) {
+            // Deadlines come before events due at the same time.
+            if (event == null || (deadline != null && !deadline.getKey().isAfter(event.getKey()))) {
+                addUpTo(deadline.getValue(), limit, matches);
+                deadline = nextOrNull(nextDeadlines);
+            } else {
+                addUpTo(event.getValue(), limit, matches);
+                event = nextOrNull(nextEvents);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the deadlines still to do that were due before the given time.
+     *
+     * @param now The current time.
+     * @return Overdue deadlines, most overdue first.
+     */
+    List<Task> findOverdue(LocalDateTime now) {
+        List<Task> matches = new ArrayList<>();
+        for (Set<Task> tasks : deadlines.headMap(now, false).values()) {
+            matches.addAll(tasks);
+        }
+        return matches;
+    }
+
+    /**
+     * Passes every indexed task to the given action, deadlines first, each in due order.
+     */
+    void forEach(Consumer<Task> action) {
+        deadlines.values().forEach(tasks -> tasks.forEach(action));
+        events.values().forEach(tasks -> tasks.forEach(action));
+    }
+
+    /**
+     * Returns when a task is due: the {@code by} time of a deadline or the {@code from} time of an event.
+     */
+    static LocalDateTime dueTime(Task task) {
+        return task instanceof Deadline d ? d.getBy() : ((Event) task).getFrom();
+    }
+
+    long estimateMemoryBytes() {
+        return (long) (deadlines.size() + events.size()) * BYTES_PER_DUE_TIME
+                + (long) taskCount * BYTES_PER_TASK;
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    /**
+     * Returns the map a task belongs in, or null for tasks without a due time.
+     */
+    private NavigableMap<LocalDateTime, Set<Task>> mapOf(Task task) {
+        if (task instanceof Deadline) {
+            return deadlines;
+        } else if (task instanceof Event) {
+            return events;
+        }
+        return null;
+    }
+
+    private static <T> T nextOrNull(Iterator<T> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static void addUpTo(Set<Task> tasks, int limit, List<Task> matches) {
+        for (Iterator<Task> it = tasks.iterator(); it.hasNext() && matches.size() < limit; ) {
+            matches.add(it.next());
+        }
+    }
+}
@@ -55,9 +55,8 @@ public class Event extends Task {
     }
 
     @Override
-    public String toString() {
-        return super.toString()
-                + " (from: "
+    protected String getDisplayDetails() {
+        return " (from: "
                 + from.format(DISPLAY_FORMATTER)
                 + " to: "
                 + to.format(DISPLAY_FORMATTER)
@@ -67,9 +66,9 @@ public class Event extends Task {
     @Override
     public String toFileString() {
         return "E | "
-                + (isDone ? "1" : "0")
+                + (isDone() ? "1" : "0")
                 + " | "
-                + description
+                + getDescription()
                 + " | "
                 + from.format(INPUT_FORMATTER)
                 + " | "
@@ -0,0 +1,205 @@
+package cherish.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Substring index over task descriptions, kept up to date by {@link TaskList}.
+ *
+ * Keywords of three characters or more are looked up in a trigram index: every substring
+ * of the lower-cased description contains all trigrams of the keyword, so intersecting
+ * their posting lists and checking the survivors with {@code contains} gives exactly
+ * the tasks a linear scan would find.
+ *
+ * Shorter keywords have no trigram, and single characters would match nearly everything.
+ * A short keyword without whitespace can only occur inside one token, that is a maximal run
+ * of non-whitespace characters, so it is matched against the much smaller vocabulary of tokens.
+ *
+ * Tasks are identified by reference, and matches are put in list order by their position in the list.
+ */
+final class KeywordIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /*
+     * Rough heap sizes for the memory estimate, assuming compressed references.
+     * A posting takes two reference slots in an identity set that is between a third and
+     * two thirds full. A key takes a hash map node, the boxed or string key, and a small
+     * identity set with its wrapper and table.
+     */
+    private static final int BYTES_PER_POSTING = 20;
+    private static final int BYTES_PER_TRIGRAM_KEY = 180;
+    private static final int BYTES_PER_TOKEN_KEY = 210;
+
+    /** Tasks having each trigram of the lower-cased description, keyed by packed trigram. */
+    private final Map<Long, Set<Task>> trigrams = new HashMap<>();
+
+    /** Tasks having each token of the lower-cased description. */
+    private final Map<String, Set<Task>> tokens = new HashMap<>();
+
+    private final TaskSequence order;
+
+    private long postingCount;
+
+    /**
+     * Constructs an empty KeywordIndex.
+     *
+     * @param order The tasks of the list, used to put matches in list order.
+     */
+    KeywordIndex(TaskSequence order) {
+        this.order = order;
+    }
+
+    /**
+     * Indexes a task added to the list.
+     */
+    void add(Task task) {
+        String lower = task.getDescription().toLowerCase();
+        for (long trigram : trigramsOf(lower)) {
+            postingCount += addPosting(trigrams, trigram, task);
+        }
+        for (String token : tokensOf(lower)) {
+            postingCount += addPosting(tokens, token, task);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     */
+    void remove(Task task) {
+        String lower = task.getDescription().toLowerCase();
+        for (long trigram : trigramsOf(lower)) {
+            postingCount -= removePosting(trigrams, trigram, task);
+        }
+        for (String token : tokensOf(lower)) {
+            postingCount -= removePosting(tokens, token, task);
+        }
+    }
+
+    /**
+     * Finds the tasks whose lower-cased description contains the lower-cased keyword.
+     *
+     * @param lowerKeyword Keyword, already lower-cased.
+     * @return Matching tasks in list order, or null if the keyword is too short for the index
+     *         and contains whitespace, in which case the caller has to scan the list.
+     */
+    List<Task> find(String lowerKeyword) {
+        List<Task> matches;
+        if (lowerKeyword.length() >= GRAM_LENGTH) {
+            matches = findByTrigrams(lowerKeyword);
+        } else if (lowerKeyword.chars().noneMatch(Character::isWhitespace)) {
+            matches = findByTokens(lowerKeyword);
+        } else {
+            return null;
+        }
+        order.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Estimates the heap used by the index, for sizing the heap of large task lists.
+     *
+     * @return Approximate size of the index in bytes.
+     */
+    long estimateMemoryBytes() {
+        return postingCount * BYTES_PER_POSTING
+                + (long) trigrams.size() * BYTES_PER_TRIGRAM_KEY
+                + (long) tokens.size() * BYTES_PER_TOKEN_KEY;
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private List<Task> findByTrigrams(String lowerKeyword) {
+        List<Set<Task>> postings = new ArrayList<>();
+        for (long trigram : trigramsOf(lowerKeyword)) {
+            Set<Task> tasks = trigrams.get(trigram);
+            if (tasks == null) {
+                return new ArrayList<>();
+            }
+            postings.add(tasks);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        List<Task> matches = new ArrayList<>();
+        for (Task task : postings.get(0)) {
+            if (isInAll(postings, task) && task.getDescription().toLowerCase().contains(lowerKeyword)) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+
+    private List<Task> findByTokens(String lowerKeyword) {
+        Set<Task> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, Set<Task>> entry : tokens.entrySet()) {
+            if (entry.getKey().contains(lowerKeyword)) {
+                candidates.addAll(entry.getValue());
+            }
+        }
+        return new ArrayList<>(candidates);
+    }
+
+    private static boolean isInAll(List<Set<Task>> postings, Task task) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <K> int addPosting(Map<K, Set<Task>> index, K key, Task task) {
+        boolean isAdded = index.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>(2)))
+                .add(task);
+        return isAdded ? 1 : 0;
+    }
+
+    private static <K> int removePosting(Map<K, Set<Task>> index, K key, Task task) {
+        Set<Task> tasks = index.get(key);
+        if (tasks == null || !tasks.remove(task)) {
+            return 0;
+        }
+        if (tasks.isEmpty()) {
+            index.remove(key);
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the distinct trigrams of the text, each packed into a long.
+     */
+    private static Set<Long> trigramsOf(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the distinct maximal runs of non-whitespace characters of the text.
+     */
+    private static Set<String> tokensOf(String text) {
+        Set<String> runs = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWhitespace = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (!isWhitespace && start < 0) {
+                start = i;
+            } else if (isWhitespace && start >= 0) {
+                runs.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return runs;
+    }
+}
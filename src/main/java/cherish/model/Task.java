@@ -7,8 +7,14 @@ import cherish.CherishException;
  * Contains common properties like description and completion status.
  */
 public abstract class Task {
-    protected String description;
-    protected boolean isDone;
+    private final String description;
+    private boolean isDone;
+
+    /** Stable ID, or 0 while the task has not been added to a {@link TaskList}. */
+    private long id;
+
+    /** Display form returned by {@link #toString()}, built on first use and dropped when the status changes. */
+    private String display;
 
     /**
      * Constructs a Task with the given description.
@@ -34,11 +40,32 @@ public abstract class Task {
         return this.description;
     }
 
+    /**
+     * Gets the stable ID of the task, which does not change when other tasks are added or removed.
+     *
+     * @return The task's ID, or 0 if none has been assigned yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the stable ID of the task.
+     * IDs are assigned by {@link TaskList} and restored from storage.
+     *
+     * @param id A positive ID, or 0 to have the task list assign one.
+     */
+    public void setId(long id) {
+        assert id >= 0 : "Task ID cannot be negative: " + id;
+        this.id = id;
+    }
+
     /**
      * Marks the task as completed.
      */
     public void markAsDone() {
         this.isDone = true;
+        this.display = null;
     }
 
     /**
@@ -46,6 +73,7 @@ public abstract class Task {
      */
     public void markAsNotDone() {
         this.isDone = false;
+        this.display = null;
     }
 
     /**
@@ -82,8 +110,29 @@ public abstract class Task {
      */
     public abstract TaskType getType();
 
+    /**
+     * Returns the details shown after the description, such as dates. Empty by default.
+     * Only called when the display form is rebuilt, so it may format freely.
+     *
+     * @return The details, starting with a space if not empty.
+     */
+    protected String getDisplayDetails() {
+        return "";
+    }
+
+    /**
+     * Returns the display form of the task, e.g. {@code [D][X] submit report (by: Feb 01 2026 1800)}.
+     * It is cached, so listing unchanged tasks again allocates nothing.
+     *
+     * @return The display form.
+     */
     @Override
-    public String toString() {
-        return "[" + getType().getSymbol() + "][" + getStatusIcon() + "] " + description;
+    public final String toString() {
+        String cached = display;
+        if (cached == null) {
+            cached = "[" + getType().getSymbol() + "][" + getStatusIcon() + "] " + description + getDisplayDetails();
+            display = cached;
+        }
+        return cached;
     }
 }
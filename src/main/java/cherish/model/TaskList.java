@@ -1,11 +1,18 @@
 package cherish.model;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
 
 import cherish.CherishException;
 
@@ -19,20 +26,61 @@ public class TaskList {
     public static final DateTimeFormatter DATE_TIME_FORMATTER =
             DateTimeFormatter.ofPattern("MMM dd yyyy HHmm", Locale.ENGLISH);
 
+    /** Number of tasks shown per page of {@code findrange} results. */
+    public static final int RANGE_PAGE_SIZE = 20;
+
+    /** Number of tasks shown per page of {@code list}, unless the user gives a size. */
+    public static final int LIST_PAGE_SIZE = 50;
+
+    /** Number of tasks shown by {@code upcoming}, unless the user gives a count. */
+    public static final int UPCOMING_COUNT = 5;
+
     private static final DateTimeFormatter INPUT_DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    private final ArrayList<Task> tasks;
+    /** The tasks, with O(log n) access, insertion and removal by index. */
+    private final TaskSequence tasks;
+
+    /** Substring index of descriptions, updated with every change to the list. */
+    private final KeywordIndex keywordIndex;
+
+    /** Deadline and event date index, updated with every change to the list. */
+    private final DateIndex dateIndex;
+
+    /** Deadlines and events still to do by due time, updated with every change to the list. */
+    private final DueIndex dueIndex = new DueIndex();
+
+    /** Told when tasks enter and leave the due-time index, or null. */
+    private DueListener dueListener;
+
+    /** Immutable view of the list, kept up to date once it has been asked for; null until then. */
+    private TaskSnapshot snapshot;
+
+    /** Latest version handed out by {@link #checkpoint()}, collecting the changes made since; null until then. */
+    private TaskListVersion version;
+
+    /** Tasks by stable ID, for addressing tasks independently of their position. */
+    private final Map<Long, Task> tasksById = new HashMap<>();
+
+    /** ID given to the next task without one; always above every ID in use. */
+    private long nextId = 1;
+
+    /** Whether loaded tasks were given IDs that are not in storage yet. */
+    private boolean hasUnsavedIds;
 
     /**
      * Constructor for a new taskList
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this.tasks = new TaskSequence();
+        this.keywordIndex = new KeywordIndex(tasks);
+        this.dateIndex = new DateIndex(tasks);
     }
 
     /**
      * Constructs a TaskList from an existing array of tasks.
+     * Tasks keep the IDs they were stored with; tasks without an ID, or with the ID
+     * of an earlier task, get new IDs above every stored one.
      *
      * @param loadedTasks Tasks loaded from storage.
      */
@@ -40,10 +88,16 @@ public class TaskList {
         this();
         assert tasks != null : "TaskList constructor argument 'tasks' cannot be null";
         if (loadedTasks != null) {
-            for (Task task : loadedTasks) {
-                if (task != null) {
-                    tasks.add(task);
-                }
+            List<Task> nonNullTasks = Arrays.stream(loadedTasks).filter(Objects::nonNull).toList();
+            tasks.addAll(nonNullTasks);
+            for (Task task : nonNullTasks) {
+                nextId = Math.max(nextId, task.getId() + 1);
+            }
+            for (Task task : nonNullTasks) {
+                hasUnsavedIds |= !assignId(task);
+                keywordIndex.add(task);
+                dateIndex.add(task);
+                dueIndex.add(task);
             }
         }
     }
@@ -54,6 +108,7 @@ public class TaskList {
     public void add(Task task) {
         int oldSize = tasks.size();
         tasks.add(task);
+        inserted(oldSize, task);
         assert tasks.size() == oldSize + 1 : "TaskList size did not increase by 1 after adding a task. Old size: "
                         + oldSize + ", New size: " + tasks.size();
     }
@@ -72,7 +127,8 @@ public class TaskList {
             );
         }
 
-        rebuildListWithInsertedTask(index, task);
+        tasks.add(index, task);
+        inserted(index, task);
     }
 
     /**
@@ -85,9 +141,45 @@ public class TaskList {
             throw new CherishException("Cannot pop from an empty task list.");
         }
         Task removedTask = tasks.remove(tasks.size() - 1);
+        removed(tasks.size(), removedTask);
         return removedTask;
     }
 
+    /**
+     * Returns the task with the given stable ID.
+     *
+     * @param id ID of the task.
+     * @return The task, or null if no task in the list has this ID.
+     */
+    public Task getById(long id) {
+        return tasksById.get(id);
+    }
+
+    /**
+     * Returns the current position of the task with the given stable ID.
+     *
+     * @param id ID of the task.
+     * @return Zero-based index of the task.
+     * @throws CherishException If no task in the list has this ID.
+     */
+    public int getIndexById(long id) throws CherishException {
+        Task task = tasksById.get(id);
+        if (task == null) {
+            throw new CherishException("There is no task with ID #" + id + ".");
+        }
+        return tasks.positionOf(task);
+    }
+
+    /**
+     * Checks whether tasks passed to the constructor were given new IDs,
+     * in which case the list should be saved so the IDs stay the same next time.
+     *
+     * @return True if some loaded tasks had no ID or a duplicate one.
+     */
+    public boolean hasUnsavedIds() {
+        return hasUnsavedIds;
+    }
+
     public Task getByIndex(int index) {
         assert index >= 0 && index < tasks.size() : "Index out of bounds in TaskList.get: "
                 + index + ". Size is: " + tasks.size();
@@ -104,19 +196,150 @@ public class TaskList {
     public void remove(int index) {
         assert index >= 0 && index < tasks.size() : "Index out of bounds in TaskList.remove: "
                 + index + ". Size is: " + tasks.size();
-        tasks.remove(index);
+        removed(index, tasks.remove(index));
+    }
+
+    /**
+     * Deletes the tasks at several positions as one change.
+     * Each task leaves the sequence and the indexes in O(log n).
+     *
+     * @param indexes Zero-based positions, in ascending order without duplicates.
+     * @return The removed tasks, in list order.
+     */
+    public Task[] removeAll(int[] indexes) {
+        Task[] removedTasks = new Task[indexes.length];
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            assert i == 0 || indexes[i - 1] < indexes[i] : "Indexes must be ascending without duplicates";
+            removedTasks[i] = tasks.remove(indexes[i]);
+            removed(indexes[i], removedTasks[i]);
+        }
+        return removedTasks;
     }
 
     public void markAsDone(int index) {
-        tasks.get(index).markAsDone();
+        setDone(index, true);
     }
 
     public void markAsNotDone(int index) {
-        tasks.get(index).markAsNotDone();
+        setDone(index, false);
     }
 
     /**
-     * Finds tasks that occur on the given date.
+     * Returns an immutable view of the list as it is now, which can be read from other threads
+     * while this list changes. The first call builds the view in O(n); after that the list keeps
+     * it up to date with O(log n) work per change, and each call takes O(1).
+     *
+     * @return Snapshot of the current tasks.
+     */
+    public TaskSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = TaskSnapshot.of(List.copyOf(tasks));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a version of the list as it is now, which {@link #restore} can bring the list back to.
+     * From the first call on, the list records each change at O(1); nothing is copied when a version is taken.
+     * The version holds the current snapshot only if {@link #snapshot()} has already been called,
+     * so taking versions never builds the O(n) snapshot by itself.
+     *
+     * @return The current version.
+     */
+    public TaskListVersion checkpoint() {
+        if (version == null) {
+            version = new TaskListVersion(snapshot);
+        } else if (!version.getChanges().isEmpty()) {
+            TaskListVersion latest = new TaskListVersion(snapshot);
+            version.setNext(latest);
+            version = latest;
+        }
+        return version;
+    }
+
+    /**
+     * Brings the list back to an earlier version, reversing every change made since.
+     * The snapshot of the version, if it has one, becomes the current snapshot as it is, and the search indexes
+     * are repaired for the changed tasks only. Versions taken after it are discarded.
+     *
+     * @param target A version of this list that has not been discarded.
+     * @param listener Told of each reversing change right after it is made, e.g. to save it.
+     * @throws CherishException If the version cannot be restored, or the listener fails.
+     */
+    public void restore(TaskListVersion target, ChangeListener listener) throws CherishException {
+        List<TaskListVersion.Change> changes = new ArrayList<>();
+        for (TaskListVersion v = target; v != version; v = v.getNext()) {
+            if (v == null) {
+                throw new CherishException("This change can no longer be undone.");
+            }
+            changes.addAll(v.getChanges());
+        }
+        if (version == null) {
+            throw new CherishException("This change can no longer be undone.");
+        }
+        changes.addAll(version.getChanges());
+
+        // Reverse the changes without recording them or copying snapshot nodes for them.
+        version = null;
+        snapshot = null;
+        boolean isRestored = false;
+        try {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                reverse(changes.get(i), listener);
+            }
+            isRestored = true;
+        } finally {
+            if (isRestored) {
+                target.getChanges().clear();
+                target.setNext(null);
+                version = target;
+                snapshot = target.getSnapshot();
+            } else {
+                // Part of the changes were reversed, so start a new history from the current state.
+                checkpoint();
+            }
+        }
+    }
+
+    /**
+     * Counts the completed tasks from the counts kept in the task sequence, without visiting the tasks.
+     *
+     * @return Number of tasks marked as done.
+     */
+    public int countDone() {
+        return tasks.countDone();
+    }
+
+    /**
+     * Lists the tasks with the given completion status, numbered by their position in the full list
+     * so the numbers work with {@code mark}, {@code unmark} and {@code delete}.
+     * Each position is found from the counts kept in the task sequence in O(log n),
+     * so only the listed tasks are visited.
+     *
+     * @param isDone True for completed tasks, false for tasks still to do.
+     * @return Formatted list of the tasks.
+     */
+    public String getListStringByStatus(boolean isDone) {
+        int first = tasks.nextWithStatus(0, isDone);
+        if (first < 0) {
+            return isDone ? "You haven't completed any tasks yet." : "All done! You have no tasks left to do.";
+        }
+
+        StringBuilder result = new StringBuilder(isDone
+                ? "Here are the completed tasks in your list:\n"
+                : "Here are the tasks you still have to do:\n");
+        for (int i = first; i >= 0; i = tasks.nextWithStatus(i + 1, isDone)) {
+            result.append(i + 1)
+                    .append(".")
+                    .append(tasks.get(i))
+                    .append("\n");
+        }
+
+        return result.toString().trim();
+    }
+
+    /**
+     * Finds tasks that occur on the given date, from the date index.
      *
      * @param dateString Date in yyyy-MM-dd format.
      * @return Formatted list of matching tasks.
@@ -125,54 +348,149 @@ public class TaskList {
     public String findTasksOnDate(String dateString) throws CherishException {
         LocalDate targetDate = parseDate(dateString);
 
-        List<Task> matchingTasks = tasks.stream()
-                .filter(task -> occursOnDate(task, targetDate))
-                .toList();
+        List<Task> matchingTasks = dateIndex.findOverlapping(targetDate, targetDate);
 
         if (matchingTasks.isEmpty()) {
             return "No tasks found on " + dateString + ".";
         }
 
-        StringBuilder result = new StringBuilder(
-                "Here are the tasks on " + dateString + ":\n");
+        return formatNumbered("Here are the tasks on " + dateString + ":", matchingTasks);
+    }
+
+    /**
+     * Finds the deadlines due and the events taking place between two dates, inclusive.
+     * Wide ranges are split into pages of {@value #RANGE_PAGE_SIZE} tasks.
+     *
+     * @param startString First date in yyyy-MM-dd format.
+     * @param endString Last date in yyyy-MM-dd format.
+     * @param page 1-based page of the results to show.
+     * @return Formatted page of matching tasks.
+     * @throws CherishException If a date is invalid, the range is reversed or the page does not exist.
+     */
+    public String findTasksInRange(String startString, String endString, int page) throws CherishException {
+        LocalDate start = parseDate(startString);
+        LocalDate end = parseDate(endString);
+        if (end.isBefore(start)) {
+            throw new CherishException("The end date cannot be before the start date.");
+        }
+
+        List<Task> matchingTasks = dateIndex.findOverlapping(start, end);
+        String range = startString + " to " + endString;
+        if (matchingTasks.isEmpty()) {
+            return "No tasks found from " + range + ".";
+        }
+
+        int pageCount = (matchingTasks.size() + RANGE_PAGE_SIZE - 1) / RANGE_PAGE_SIZE;
+        if (page > pageCount) {
+            throw new CherishException("There are only " + pageCount + " pages of tasks from " + range + ".");
+        }
+
+        StringBuilder result = new StringBuilder("Here are the tasks from " + range);
+        if (pageCount > 1) {
+            result.append(" (page ").append(page).append(" of ").append(pageCount).append(")");
+        }
+        result.append(":\n");
 
-        for (int i = 0; i < matchingTasks.size(); i++) {
+        int first = (page - 1) * RANGE_PAGE_SIZE;
+        int last = Math.min(first + RANGE_PAGE_SIZE, matchingTasks.size());
+        for (int i = first; i < last; i++) {
             result.append(i + 1)
                     .append(".")
                     .append(matchingTasks.get(i))
                     .append("\n");
         }
 
+        if (page < pageCount) {
+            result.append("Type 'findrange ").append(startString).append(" ").append(endString)
+                    .append(" ").append(page + 1).append("' for more.");
+        }
+
         return result.toString().trim();
     }
 
+    /**
+     * Finds the next deadlines and events still to do, from the due-time index.
+     *
+     * @param count Maximum number of tasks to show.
+     * @param now The current time.
+     * @return Formatted list of the tasks, soonest first.
+     */
+    public String findUpcomingTasks(int count, LocalDateTime now) {
+        assert count > 0 : "Count must be positive: " + count;
+        List<Task> upcomingTasks = dueIndex.findUpcoming(now, count);
+
+        if (upcomingTasks.isEmpty()) {
+            return "Nothing coming up! You have no deadlines or events left to do.";
+        }
+
+        return formatNumbered("Here's what's coming up next:", upcomingTasks);
+    }
+
+    /**
+     * Sets the listener told when deadlines and events still to do are added, deleted, marked or unmarked,
+     * and passes it every such task already in the list.
+     *
+     * @param listener The listener, or null to stop telling one.
+     */
+    public void setDueListener(DueListener listener) {
+        dueListener = listener;
+        if (listener != null) {
+            dueIndex.forEach(task -> listener.scheduled(task, DueIndex.dueTime(task)));
+        }
+    }
+
+    /**
+     * Finds the deadlines still to do that are past their due time, from the due-time index.
+     *
+     * @param now The current time.
+     * @return Formatted list of the overdue deadlines, most overdue first.
+     */
+    public String findOverdueTasks(LocalDateTime now) {
+        List<Task> overdueTasks = dueIndex.findOverdue(now);
+
+        if (overdueTasks.isEmpty()) {
+            return "You're all caught up! No deadlines are overdue.";
+        }
+
+        return formatNumbered("These deadlines are overdue:", overdueTasks);
+    }
+
     /**
      * Finds tasks whose description contains the given keyword (case-insensitive).
+     * Answered from the keyword index; only keywords shorter than three characters
+     * that contain whitespace scan the list.
      */
     public String findTasksByKeyword(String keyword) {
         String lowerKeyword = keyword.toLowerCase();
 
-        List<Task> matchingTasks = tasks.stream()
-                .filter(task -> task.getDescription()
-                        .toLowerCase()
-                        .contains(lowerKeyword))
-                .toList();
+        List<Task> matchingTasks = keywordIndex.find(lowerKeyword);
+        if (matchingTasks == null) {
+            matchingTasks = tasks.stream()
+                    .filter(task -> task.getDescription()
+                            .toLowerCase()
+                            .contains(lowerKeyword))
+                    .toList();
+        }
 
         if (matchingTasks.isEmpty()) {
             return "No tasks found containing '" + keyword + "'.";
         }
 
-        StringBuilder result =
-                new StringBuilder("Here are the matching tasks in your list:\n");
-
-        for (int i = 0; i < matchingTasks.size(); i++) {
-            result.append(i + 1)
-                    .append(".")
-                    .append(matchingTasks.get(i))
-                    .append("\n");
-        }
+        return formatNumbered("Here are the matching tasks in your list:", matchingTasks);
+    }
 
-        return result.toString().trim();
+    /**
+     * Returns an estimate of the memory used by the search indexes, for sizing the heap.
+     *
+     * @return Approximate total and per-task size of the index.
+     */
+    public String getIndexMemorySummary() {
+        long bytes = keywordIndex.estimateMemoryBytes() + dateIndex.estimateMemoryBytes()
+                + dueIndex.estimateMemoryBytes()
+                + tasks.estimateMemoryBytes();
+        long bytesPerTask = tasks.isEmpty() ? 0 : bytes / tasks.size();
+        return "Search index: about " + (bytes / 1024) + " KiB for " + tasks.size() + " tasks, "
+                + bytesPerTask + " bytes per task";
     }
 
     public Task[] toArray() {
@@ -184,26 +502,130 @@ public class TaskList {
      */
     public String getListString() {
         if (tasks.isEmpty()) {
-            return "Your task list is empty! Add some tasks with 'todo', 'deadline', or 'event'.";
+            return getListHeader();
         }
 
-        StringBuilder result = new StringBuilder("Here are the tasks in your list:\n");
+        StringBuilder result = new StringBuilder(getListHeader()).append("\n");
 
-        for (int i = 0; i < tasks.size(); i++) {
-            result.append(i + 1)
-                    .append(".")
-                    .append(tasks.get(i))
-                    .append("\n");
+        for (Iterator<String> lines = getListLines(0); lines.hasNext(); ) {
+            result.append(lines.next()).append("\n");
         }
 
         return result.toString().trim();
     }
 
+    /**
+     * Returns the header shown above the full list, or the empty-list message if there are no tasks.
+     */
+    public String getListHeader() {
+        return formatListHeader(tasks.size());
+    }
+
+    /**
+     * Returns a cursor that renders numbered list lines one at a time, for streaming the list
+     * without building it in memory. Seeking to the start takes O(log n), each line O(1) amortized.
+     * The cursor must not be used after the list changes.
+     *
+     * @param fromIndex Zero-based index of the first task to render.
+     * @return Iterator over lines such as {@code 3.[T][ ] read book}.
+     */
+    public Iterator<String> getListLines(int fromIndex) {
+        Iterator<Task> cursor = tasks.iteratorFrom(fromIndex);
+        return new Iterator<>() {
+            private int number = fromIndex + 1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return number++ + "." + cursor.next();
+            }
+        };
+    }
+
+    /**
+     * Returns one page of the formatted list.
+     *
+     * @param page 1-based page to show.
+     * @param pageSize Number of tasks per page.
+     * @return Formatted page, with a hint for the next page if there is one.
+     * @throws CherishException If the page does not exist.
+     */
+    public String getListPage(int page, int pageSize) throws CherishException {
+        return formatListPage(tasks.size(), page, pageSize, this::getListLines);
+    }
+
     /* =========================
        Helper methods
        ========================= */
 
-    private LocalDate parseDate(String dateString) throws CherishException {
+    private static String formatListHeader(int size) {
+        if (size == 0) {
+            return "Your task list is empty! Add some tasks with 'todo', 'deadline', or 'event'.";
+        }
+        return "Here are the tasks in your list:";
+    }
+
+    /**
+     * Formats one page of a list of the given size, shared with {@link TaskSnapshot}.
+     *
+     * @param linesFrom Returns the numbered lines from a zero-based index.
+     */
+    static String formatListPage(int size, int page, int pageSize, IntFunction<Iterator<String>> linesFrom)
+            throws CherishException {
+        assert page > 0 && pageSize > 0 : "Page and page size must be positive";
+        if (size == 0) {
+            return formatListHeader(size);
+        }
+
+        int pageCount = (int) ((size + (long) pageSize - 1) / pageSize);
+        if (page > pageCount) {
+            throw new CherishException("There are only " + pageCount + " pages of tasks in your list.");
+        }
+
+        StringBuilder result = new StringBuilder("Here are the tasks in your list");
+        if (pageCount > 1) {
+            result.append(" (page ").append(page).append(" of ").append(pageCount).append(")");
+        }
+        result.append(":\n");
+
+        int first = (int) Math.min((long) (page - 1) * pageSize, size);
+        Iterator<String> lines = linesFrom.apply(first);
+        for (int i = 0; i < pageSize && lines.hasNext(); i++) {
+            result.append(lines.next()).append("\n");
+        }
+
+        if (page < pageCount) {
+            result.append("Type 'list ").append(page + 1);
+            if (pageSize != LIST_PAGE_SIZE) {
+                result.append(" ").append(pageSize);
+            }
+            result.append("' for more.");
+        }
+
+        return result.toString().trim();
+    }
+
+    /**
+     * Formats search matches as a list numbered from 1 under a header.
+     */
+    static String formatNumbered(String header, List<?> matches) {
+        StringBuilder result = new StringBuilder(header).append("\n");
+
+        for (int i = 0; i < matches.size(); i++) {
+            result.append(i + 1)
+                    .append(".")
+                    .append(matches.get(i))
+                    .append("\n");
+        }
+
+        return result.toString().trim();
+    }
+
+    static LocalDate parseDate(String dateString) throws CherishException {
         try {
             return LocalDate.parse(dateString, INPUT_DATE_FORMATTER);
         } catch (DateTimeParseException e) {
@@ -214,35 +636,132 @@ public class TaskList {
     }
 
     /**
-     * Checks whether a task occurs on the given date.
+     * Registers the ID of a task, giving it a new one if it has none or its ID is taken.
+     * A task that is added back, e.g. by undo, keeps its ID.
+     *
+     * @return True if the task kept its ID.
+     */
+    private boolean assignId(Task task) {
+        long id = task.getId();
+        boolean isKept = id > 0 && !tasksById.containsKey(id);
+        if (!isKept) {
+            id = nextId;
+            task.setId(id);
+        }
+        nextId = Math.max(nextId, id + 1);
+        tasksById.put(id, task);
+        return isKept;
+    }
+
+    /**
+     * Updates the indexes, snapshot and history for a task just inserted into the sequence.
+     */
+    private void inserted(int index, Task task) {
+        index(task);
+        if (snapshot != null) {
+            snapshot = snapshot.insert(index, task);
+        }
+        record(TaskListVersion.ChangeType.INSERT, index, task, false);
+    }
+
+    /**
+     * Updates the indexes, snapshot and history for a task just removed from the sequence.
      */
-    private boolean occursOnDate(Task task, LocalDate targetDate) {
-        if (task instanceof Deadline d) {
-            return d.getBy().toLocalDate().equals(targetDate);
+    private void removed(int index, Task task) {
+        unindex(task);
+        if (snapshot != null) {
+            snapshot = snapshot.remove(index);
+        }
+        record(TaskListVersion.ChangeType.REMOVE, index, task, false);
+    }
+
+    private void setDone(int index, boolean isDone) {
+        Task task = tasks.get(index);
+        boolean wasDone = task.isDone();
+        if (isDone) {
+            task.markAsDone();
+            removeDue(task);
+        } else {
+            task.markAsNotDone();
+            addDue(task);
+        }
+        tasks.setDone(index, isDone);
+        if (snapshot != null) {
+            snapshot = snapshot.refresh(index);
         }
+        record(TaskListVersion.ChangeType.MARK, index, task, wasDone);
+    }
 
-        if (task instanceof Event e) {
-            LocalDate from = e.getFrom().toLocalDate();
-            LocalDate to = e.getTo().toLocalDate();
-            return !from.isAfter(targetDate) && !to.isBefore(targetDate);
+    private void record(TaskListVersion.ChangeType type, int index, Task task, boolean wasDone) {
+        if (version != null) {
+            version.getChanges().add(new TaskListVersion.Change(type, index, task, wasDone));
         }
+    }
 
-        return false;
+    private void reverse(TaskListVersion.Change change, ChangeListener listener) throws CherishException {
+        int index = change.getIndex();
+        switch (change.getType()) {
+        case INSERT:
+            remove(index);
+            listener.removed(index);
+            break;
+
+        case REMOVE:
+            addByIndex(index, change.getTask());
+            listener.inserted(index, change.getTask());
+            break;
+
+        default:
+            setDone(index, change.wasDone());
+            listener.marked(index, change.wasDone());
+            break;
+        }
     }
 
-    private void rebuildListWithInsertedTask(int index, Task task) {
-        List<Task> updatedTasks =
-                java.util.stream.IntStream.range(0, tasks.size() + 1)
-                        .mapToObj(i -> {
-                            if (i == index) {
-                                return task;
-                            }
-                            return tasks.get(i < index ? i : i - 1);
-                        })
-                        .toList();
+    private void index(Task task) {
+        assignId(task);
+        keywordIndex.add(task);
+        dateIndex.add(task);
+        addDue(task);
+    }
 
-        tasks.clear();
-        tasks.addAll(updatedTasks);
+    private void unindex(Task task) {
+        tasksById.remove(task.getId());
+        keywordIndex.remove(task);
+        dateIndex.remove(task);
+        removeDue(task);
+    }
+
+    private void addDue(Task task) {
+        if (dueIndex.add(task) && dueListener != null) {
+            dueListener.scheduled(task, DueIndex.dueTime(task));
+        }
     }
 
+    private void removeDue(Task task) {
+        if (dueIndex.remove(task) && dueListener != null) {
+            dueListener.cancelled(task, DueIndex.dueTime(task));
+        }
+    }
+
+    /**
+     * Receives the deadlines and events still to do as they enter and leave the list's due-time index,
+     * on the thread that changes the list.
+     */
+    public interface DueListener {
+        void scheduled(Task task, LocalDateTime dueTime);
+
+        void cancelled(Task task, LocalDateTime dueTime);
+    }
+
+    /**
+     * Receives the changes made by {@link #restore}, with the list already changed.
+     */
+    public interface ChangeListener {
+        void inserted(int index, Task task) throws CherishException;
+
+        void removed(int index) throws CherishException;
+
+        void marked(int index, boolean isDone) throws CherishException;
+    }
 }
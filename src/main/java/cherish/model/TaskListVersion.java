@@ -0,0 +1,89 @@
+package cherish.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A state of a {@link TaskList} that the list can be restored to, from {@link TaskList#checkpoint()}.
+ *
+ * A version holds the {@link TaskSnapshot} of its state, if the list kept one then, which shares all unchanged
+ * nodes with the snapshots of other versions, and the changes made after it up to the next version. Versions only
+ * link forwards, so a version that nothing holds any more is garbage collected along with its changes,
+ * and keeping a long undo history costs the changed nodes and the change records, not copies of the list.
+ */
+public final class TaskListVersion {
+
+    private final TaskSnapshot snapshot;
+
+    /** Changes made to the list after this version, up to the next one, oldest first. */
+    private final List<Change> changes = new ArrayList<>();
+
+    /** The version taken after this one, or null if this is the latest. */
+    private TaskListVersion next;
+
+    TaskListVersion(TaskSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns the tasks as they were in this version, or null if the list was not keeping
+     * a snapshot when the version was taken.
+     */
+    public TaskSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    List<Change> getChanges() {
+        return changes;
+    }
+
+    TaskListVersion getNext() {
+        return next;
+    }
+
+    void setNext(TaskListVersion next) {
+        this.next = next;
+    }
+
+    /**
+     * Kinds of change to a task list.
+     */
+    enum ChangeType {
+        INSERT, REMOVE, MARK
+    }
+
+    /**
+     * One change to a task list, with what is needed to reverse it.
+     */
+    static final class Change {
+        private final ChangeType type;
+        private final int index;
+        private final Task task;
+
+        /** For a mark, whether the task was done before the change. */
+        private final boolean wasDone;
+
+        Change(ChangeType type, int index, Task task, boolean wasDone) {
+            this.type = type;
+            this.index = index;
+            this.task = task;
+            this.wasDone = wasDone;
+        }
+
+        ChangeType getType() {
+            return type;
+        }
+
+        int getIndex() {
+            return index;
+        }
+
+        Task getTask() {
+            return task;
+        }
+
+        boolean wasDone() {
+            return wasDone;
+        }
+    }
+}
@@ -0,0 +1,429 @@
+package cherish.model;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Positional list of tasks backing {@link TaskList}.
+ *
+ * The tasks are kept in a treap ordered by position, where every node knows the size of its
+ * subtree, so reading, inserting and removing at an index take O(log n) instead of shifting
+ * the tail of an array. Nodes also link to their parent, which gives the position of a task
+ * in O(log n); the search indexes use it to return their matches in list order.
+ * Every node also counts the completed tasks below it, so counting them, and finding the next task
+ * with a given status, take O(log n) as well.
+ *
+ * Tasks are identified by reference, so a task object may only be in the sequence once.
+ */
+final class TaskSequence extends AbstractList<Task> {
+
+    /** Rough heap size of one task: a tree node and its slot pair in the identity map. */
+    private static final int BYTES_PER_TASK = 48 + 24;
+
+    /** Tree node of every task, for finding its position. */
+    private final Map<Task, Node> nodes = new IdentityHashMap<>();
+
+    private Node root;
+
+    @Override
+    public Task get(int index) {
+        return nodeAt(index).task;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    @Override
+    public void add(int index, Task task) {
+        checkPositionIndex(index);
+        Node node = new Node(task);
+        if (nodes.putIfAbsent(task, node) != null) {
+            throw new IllegalArgumentException("Task is already in the list: " + task);
+        }
+
+        Node[] parts = split(root, index);
+        setRoot(merge(merge(parts[0], node), parts[1]));
+        modCount++;
+    }
+
+    /**
+     * Appends all tasks, building the tree for them in linear time.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Task> tasks) {
+        Node built = null;
+        Deque<Node> rightSpine = new ArrayDeque<>();
+        List<Task> added = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            Node node = new Node(task);
+            if (nodes.putIfAbsent(task, node) != null) {
+                // Undo the partial build so the sequence is unchanged.
+                added.forEach(nodes::remove);
+                throw new IllegalArgumentException("Task is already in the list: " + task);
+            }
+
+            // Cartesian tree construction: the new node takes over every spine node of lower priority.
+            Node lastPopped = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                lastPopped = rightSpine.pop();
+                update(lastPopped);
+            }
+            node.left = lastPopped;
+            if (rightSpine.isEmpty()) {
+                built = node;
+            } else {
+                rightSpine.peek().right = node;
+            }
+            rightSpine.push(node);
+            added.add(task);
+        }
+        if (built == null) {
+            return false;
+        }
+
+        while (!rightSpine.isEmpty()) {
+            update(rightSpine.pop());
+        }
+        setRoot(merge(root, built));
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Task remove(int index) {
+        checkElementIndex(index);
+        Node[] parts = split(root, index);
+        Node[] rest = split(parts[1], 1);
+        setRoot(merge(parts[0], rest[1]));
+
+        Node removed = rest[0];
+        nodes.remove(removed.task);
+        modCount++;
+        return removed.task;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        nodes.clear();
+        modCount++;
+    }
+
+    /**
+     * Iterates in order by following parent links, in O(1) amortized per task.
+     */
+    @Override
+    public Iterator<Task> iterator() {
+        return iteratorFrom(0);
+    }
+
+    /**
+     * Iterates in order from the given position, after an O(log n) seek.
+     *
+     * @param index Zero-based position of the first task, or the size for an empty iteration.
+     * @return Iterator over the tasks from the position to the end.
+     */
+    Iterator<Task> iteratorFrom(int index) {
+        checkPositionIndex(index);
+        Node first = index == size() ? null : nodeAt(index);
+        return new Iterator<>() {
+            private Node next = first;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Task next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Task task = next.task;
+                next = successor(next);
+                return task;
+            }
+        };
+    }
+
+    /**
+     * Returns the position of a task in the sequence.
+     *
+     * @param task Task in the sequence, compared by reference.
+     * @return 0-based position of the task.
+     */
+    int positionOf(Task task) {
+        Node node = nodes.get(task);
+        assert node != null : "Task is not in the list: " + task;
+
+        int position = size(node.left);
+        for (Node child = node, parent = node.parent; parent != null; child = parent, parent = parent.parent) {
+            if (parent.right == child) {
+                position += size(parent.left) + 1;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the number of tasks the sequence has recorded as done.
+     */
+    int countDone() {
+        return doneCount(root);
+    }
+
+    /**
+     * Records the completion status of the task at a position, updating the counts above it.
+     *
+     * @param index Zero-based position of the task.
+     * @param isDone Whether the task is done.
+     */
+    void setDone(int index, boolean isDone) {
+        Node node = nodeAt(index);
+        if (node.isDone == isDone) {
+            return;
+        }
+        node.isDone = isDone;
+        for (Node ancestor = node; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.doneCount += isDone ? 1 : -1;
+        }
+    }
+
+    /**
+     * Returns the first position at or after {@code fromIndex} whose task has the given status.
+     *
+     * @return The position, or -1 if there is none.
+     */
+    int nextWithStatus(int fromIndex, boolean isDone) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Index: " + fromIndex);
+        }
+        if (fromIndex >= size()) {
+            return -1;
+        }
+
+        // Rank of the wanted task among the tasks with that status, then select it.
+        int skipped = countWithStatus(fromIndex, isDone);
+        if (skipped == countMatching(root, isDone)) {
+            return -1;
+        }
+        Node node = root;
+        int position = 0;
+        while (true) {
+            int leftMatching = countMatching(node.left, isDone);
+            if (skipped < leftMatching) {
+                node = node.left;
+            } else if (skipped == leftMatching && node.isDone == isDone) {
+                return position + size(node.left);
+            } else {
+                skipped -= leftMatching + (node.isDone == isDone ? 1 : 0);
+                position += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Sorts tasks of the sequence into list order.
+     */
+    void sort(List<Task> tasks) {
+        tasks.sort(Comparator.comparingInt(this::positionOf));
+    }
+
+    long estimateMemoryBytes() {
+        return (long) nodes.size() * BYTES_PER_TASK;
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private Node nodeAt(int index) {
+        checkElementIndex(index);
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    private void setRoot(Node node) {
+        root = node;
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int doneCount(Node node) {
+        return node == null ? 0 : node.doneCount;
+    }
+
+    private static int countMatching(Node node, boolean isDone) {
+        return isDone ? doneCount(node) : size(node) - doneCount(node);
+    }
+
+    /**
+     * Counts the tasks with the given status before a position.
+     */
+    private int countWithStatus(int index, boolean isDone) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                node = node.left;
+            } else {
+                count += countMatching(node.left, isDone) + (node.isDone == isDone ? 1 : 0);
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Recomputes the size and done count of a node and points its children back at it.
+     */
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        node.doneCount = (node.isDone ? 1 : 0) + doneCount(node.left) + doneCount(node.right);
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+    }
+
+    /**
+     * Splits a tree into its first {@code count} nodes and the rest.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int leftSize = size(node.left);
+        if (count <= leftSize) {
+            Node[] parts = split(node.left, count);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+            return parts;
+        }
+        Node[] parts = split(node.right, count - leftSize - 1);
+        node.right = parts[0];
+        update(node);
+        parts[0] = node;
+        return parts;
+    }
+
+    /**
+     * Joins two trees, placing every node of the first before every node of the second.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            update(first);
+            return first;
+        }
+        second.left = merge(first, second.left);
+        update(second);
+        return second;
+    }
+
+    private static Node leftmost(Node node) {
+        if (node == null) {
+            return null;
+        }
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static Node successor(Node node) {
+        if (node.right != null) {
+            return leftmost(node.right);
+        }
+        Node child = node;
+        Node parent = node.parent;
+        while (parent != null && parent.right == child) {
+            child = parent;
+            parent = parent.parent;
+        }
+        return parent;
+    }
+
+    /**
+     * Node of the treap, holding one task.
+     */
+    private static final class Node {
+        private final Task task;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        /** Number of nodes in the subtree rooted here. */
+        private int size = 1;
+
+        /** Completion status recorded for the task; the task itself may be changed first. */
+        private boolean isDone;
+
+        /** Number of nodes in the subtree rooted here whose task is done. */
+        private int doneCount;
+
+        private Node left;
+        private Node right;
+        private Node parent;
+
+        Node(Task task) {
+            this.task = task;
+            this.isDone = task.isDone();
+            this.doneCount = isDone ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package cherish.model;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import cherish.CherishException;
+
+/**
+ * Immutable view of a {@link TaskList} at one moment, safe to read from any thread.
+ *
+ * The view is a persistent treap: a change to the list copies only the O(log n) nodes on the path
+ * to the changed position and shares the rest with earlier snapshots, so a list that keeps its
+ * snapshot up to date pays O(log n) per change and hands out a snapshot in O(1).
+ * Each node records the display string and completion status of its task at the time of the change,
+ * so later changes to the task itself do not show through.
+ *
+ * Searches scan the snapshot; the indexes of {@link TaskList} only describe the live list.
+ */
+public final class TaskSnapshot {
+
+    /** Bits of priority left to randomness when building a balanced tree. */
+    private static final int RANDOM_PRIORITY_BITS = 26;
+
+    private final Node root;
+
+    private TaskSnapshot(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a snapshot of the given tasks, in order, built in linear time.
+     */
+    static TaskSnapshot of(List<Task> tasks) {
+        return new TaskSnapshot(build(tasks, 0, tasks.size(), 0));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the number of completed tasks.
+     */
+    public int countDone() {
+        return root == null ? 0 : root.doneCount;
+    }
+
+    /**
+     * Returns a snapshot with a task inserted at the given position.
+     */
+    TaskSnapshot insert(int index, Task task) {
+        Node[] parts = split(root, index);
+        return new TaskSnapshot(merge(merge(parts[0], new Node(task)), parts[1]));
+    }
+
+    /**
+     * Returns a snapshot without the task at the given position.
+     */
+    TaskSnapshot remove(int index) {
+        Node[] parts = split(root, index);
+        Node[] rest = split(parts[1], 1);
+        return new TaskSnapshot(merge(parts[0], rest[1]));
+    }
+
+    /**
+     * Returns a snapshot with the current status and display string of the task at the given position.
+     */
+    TaskSnapshot refresh(int index) {
+        return new TaskSnapshot(refresh(root, index));
+    }
+
+    /**
+     * Returns a cursor over numbered list lines, as {@link TaskList#getListLines(int)} does.
+     *
+     * @param fromIndex Zero-based index of the first task to render.
+     * @return Iterator over lines such as {@code 3.[T][ ] read book}.
+     */
+    public Iterator<String> getListLines(int fromIndex) {
+        Iterator<Node> cursor = iteratorFrom(fromIndex);
+        return new Iterator<>() {
+            private int number = fromIndex + 1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return number++ + "." + cursor.next().display;
+            }
+        };
+    }
+
+    /**
+     * Returns one page of the formatted list, as {@link TaskList#getListPage(int, int)} does.
+     *
+     * @throws CherishException If the page does not exist.
+     */
+    public String getListPage(int page, int pageSize) throws CherishException {
+        return TaskList.formatListPage(size(), page, pageSize, this::getListLines);
+    }
+
+    /**
+     * Finds tasks whose description contains the given keyword (case-insensitive).
+     * Every task is scanned, so this costs O(n), unlike {@link TaskList#findTasksByKeyword(String)},
+     * which answers from its keyword index.
+     */
+    public String findTasksByKeyword(String keyword) {
+        String lowerKeyword = keyword.toLowerCase();
+        List<String> matches = new ArrayList<>();
+        for (Iterator<Node> nodes = iteratorFrom(0); nodes.hasNext(); ) {
+            Node node = nodes.next();
+            if (node.task.getDescription().toLowerCase().contains(lowerKeyword)) {
+                matches.add(node.display);
+            }
+        }
+
+        if (matches.isEmpty()) {
+            return "No tasks found containing '" + keyword + "'.";
+        }
+        return TaskList.formatNumbered("Here are the matching tasks in your list:", matches);
+    }
+
+    /**
+     * Finds the deadlines due and the events taking place on the given date.
+     * Every task is scanned, so this costs O(n), unlike {@link TaskList#findTasksOnDate(String)},
+     * which answers from its date index.
+     *
+     * @param dateString Date in yyyy-MM-dd format.
+     * @throws CherishException If date format is invalid.
+     */
+    public String findTasksOnDate(String dateString) throws CherishException {
+        LocalDate date = TaskList.parseDate(dateString);
+        List<String> matches = new ArrayList<>();
+        for (Iterator<Node> nodes = iteratorFrom(0); nodes.hasNext(); ) {
+            Node node = nodes.next();
+            if (occursOn(node.task, date)) {
+                matches.add(node.display);
+            }
+        }
+
+        if (matches.isEmpty()) {
+            return "No tasks found on " + dateString + ".";
+        }
+        return TaskList.formatNumbered("Here are the tasks on " + dateString + ":", matches);
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private static boolean occursOn(Task task, LocalDate date) {
+        if (task instanceof Deadline d) {
+            return d.getBy().toLocalDate().equals(date);
+        }
+        if (task instanceof Event e) {
+            return !date.isBefore(e.getFrom().toLocalDate()) && !date.isAfter(e.getTo().toLocalDate());
+        }
+        return false;
+    }
+
+    /**
+     * Iterates in order from the given position, keeping the path still to visit on a stack.
+     */
+    private Iterator<Node> iteratorFrom(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                path.push(node);
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Node next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node next = path.pop();
+                for (Node child = next.right; child != null; child = child.left) {
+                    path.push(child);
+                }
+                return next;
+            }
+        };
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int doneCount(Node node) {
+        return node == null ? 0 : node.doneCount;
+    }
+
+    /**
+     * Builds a balanced tree whose priorities fall with depth, so it is a valid treap.
+     */
+    private static Node build(List<Task> tasks, int from, int to, int depth) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        int priority = ((31 - Math.min(depth, 31)) << RANDOM_PRIORITY_BITS)
+                + ThreadLocalRandom.current().nextInt(1 << RANDOM_PRIORITY_BITS);
+        Node left = build(tasks, from, middle, depth + 1);
+        Node right = build(tasks, middle + 1, to, depth + 1);
+        return new Node(tasks.get(middle), priority, left, right);
+    }
+
+    /**
+     * Splits a tree into its first {@code count} nodes and the rest, copying the nodes on the way.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        int leftSize = size(node.left);
+        if (count <= leftSize) {
+            Node[] parts = split(node.left, count);
+            parts[1] = node.withChildren(parts[1], node.right);
+            return parts;
+        }
+        Node[] parts = split(node.right, count - leftSize - 1);
+        parts[0] = node.withChildren(node.left, parts[0]);
+        return parts;
+    }
+
+    /**
+     * Joins two trees, placing every node of the first before every node of the second.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            return first.withChildren(first.left, merge(first.right, second));
+        }
+        return second.withChildren(merge(first, second.left), second.right);
+    }
+
+    private static Node refresh(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return node.withChildren(refresh(node.left, index), node.right);
+        }
+        if (index > leftSize) {
+            return node.withChildren(node.left, refresh(node.right, index - leftSize - 1));
+        }
+        return new Node(node.task, node.priority, node.left, node.right);
+    }
+
+    /**
+     * Immutable node of the treap, holding one task as it was when the node was created.
+     */
+    private static final class Node {
+        private final Task task;
+        private final String display;
+        private final boolean isDone;
+        private final int priority;
+
+        /** Number of nodes in the subtree rooted here. */
+        private final int size;
+
+        /** Number of completed tasks in the subtree rooted here. */
+        private final int doneCount;
+
+        private final Node left;
+        private final Node right;
+
+        Node(Task task) {
+            this(task, ThreadLocalRandom.current().nextInt(), null, null);
+        }
+
+        Node(Task task, int priority, Node left, Node right) {
+            this(task, task.toString(), task.isDone(), priority, left, right);
+        }
+
+        private Node(Task task, String display, boolean isDone, int priority, Node left, Node right) {
+            this.task = task;
+            this.display = display;
+            this.isDone = isDone;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + size(left) + size(right);
+            this.doneCount = (isDone ? 1 : 0) + doneCount(left) + doneCount(right);
+        }
+
+        /**
+         * Returns a copy of this node with other children.
+         */
+        Node withChildren(Node left, Node right) {
+            return new Node(task, display, isDone, priority, left, right);
+        }
+    }
+}
@@ -24,6 +24,6 @@ public class Todo extends Task {
 
     @Override
     public String toFileString() {
-        return "T | " + (isDone ? "1" : "0") + " | " + description;
+        return "T | " + (isDone() ? "1" : "0") + " | " + getDescription();
     }
 }
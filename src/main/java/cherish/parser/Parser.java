@@ -1,18 +1,28 @@
 package cherish.parser;
 
 import cherish.CherishException;
+import cherish.command.BulkDeleteCommand;
+import cherish.command.BulkMarkCommand;
 import cherish.command.ByeCommand;
 import cherish.command.Command;
+import cherish.command.CountCommand;
 import cherish.command.DeadlineCommand;
 import cherish.command.DeleteCommand;
 import cherish.command.EventCommand;
 import cherish.command.FindCommand;
 import cherish.command.FindDateCommand;
+import cherish.command.FindRangeCommand;
+import cherish.command.ListByStatusCommand;
 import cherish.command.ListCommand;
 import cherish.command.MarkCommand;
+import cherish.command.OverdueCommand;
+import cherish.command.TaskReference;
+import cherish.command.TaskSelection;
 import cherish.command.TodoCommand;
 import cherish.command.UndoCommand;
 import cherish.command.UnmarkCommand;
+import cherish.command.UpcomingCommand;
+import cherish.model.TaskList;
 
 /**
  * Parses raw user input strings into executable {@link Command} objects.
@@ -47,14 +57,24 @@ public class Parser {
             return new ByeCommand();
         case "list":
             return new ListCommand();
+        case "list done":
+            return new ListByStatusCommand(true);
+        case "list undone":
+            return new ListByStatusCommand(false);
+        case "count":
+            return new CountCommand();
         case "undo":
             return new UndoCommand();
+        case "upcoming":
+            return new UpcomingCommand(TaskList.UPCOMING_COUNT);
+        case "overdue":
+            return new OverdueCommand();
         case "mark":
-            throw new CherishException("Please specify a task number. Usage: mark TASK_NUMBER");
+            throw new CherishException("Please specify a task number. Usage: mark TASK_NUMBER or mark #TASK_ID");
         case "unmark":
-            throw new CherishException("Please specify a task number. Usage: unmark TASK_NUMBER");
+            throw new CherishException("Please specify a task number. Usage: unmark TASK_NUMBER or unmark #TASK_ID");
         case "delete":
-            throw new CherishException("Please specify a task number. Usage: delete TASK_NUMBER");
+            throw new CherishException("Please specify a task number. Usage: delete TASK_NUMBER or delete #TASK_ID");
         case "todo":
             throw new CherishException("The description of a todo cannot be empty. "
                     + "Format: todo DESCRIPTION");
@@ -72,22 +92,36 @@ public class Parser {
             throw new CherishException("Please specify a keyword to search for!");
         case "finddate":
             throw new CherishException("Please specify a date! Usage: finddate yyyy-MM-dd");
+        case "findrange":
+            throw new CherishException("Please specify two dates! Usage: findrange yyyy-MM-dd yyyy-MM-dd");
         default:
             break;
         }
 
-        if (input.startsWith("mark ")) {
-            return new MarkCommand(parseIndex(input, "mark"));
+        if (isSelection(input, "mark")) {
+            return new BulkMarkCommand(parseSelection(input, "mark"), true);
+        } else if (isSelection(input, "unmark")) {
+            return new BulkMarkCommand(parseSelection(input, "unmark"), false);
+        } else if (isSelection(input, "delete")) {
+            return new BulkDeleteCommand(parseSelection(input, "delete"));
+        } else if (input.startsWith("mark ")) {
+            return new MarkCommand(parseReference(input, "mark"));
         } else if (input.startsWith("unmark ")) {
-            return new UnmarkCommand(parseIndex(input, "unmark"));
+            return new UnmarkCommand(parseReference(input, "unmark"));
         } else if (input.startsWith("delete ")) {
-            return new DeleteCommand(parseIndex(input, "delete"));
+            return new DeleteCommand(parseReference(input, "delete"));
         } else if (input.startsWith("todo ")) {
             return parseTodo(input);
         } else if (input.startsWith("deadline ")) {
             return parseDeadline(input);
         } else if (input.startsWith("event ")) {
             return parseEvent(input);
+        } else if (input.startsWith("list ")) {
+            return parseList(input);
+        } else if (input.startsWith("upcoming ")) {
+            return parseUpcoming(input);
+        } else if (input.startsWith("findrange ")) {
+            return parseFindRange(input);
         } else if (input.startsWith("finddate ")) {
             return parseFindDate(input);
         } else if (input.startsWith("find ")) {
@@ -100,6 +134,77 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses a 1-based task number, or a stable task ID written as {@code #ID}.
+     * @param input Full command string.
+     * @param commandName Name of the command (e.g. "mark").
+     * @return Reference to the task.
+     * @throws CherishException If the number or ID is missing or invalid.
+     */
+    private static TaskReference parseReference(String input, String commandName) throws CherishException {
+        String refStr = input.substring(commandName.length()).trim();
+        if (!refStr.startsWith("#")) {
+            return TaskReference.ofIndex(parseIndex(input, commandName));
+        }
+
+        try {
+            long id = Long.parseLong(refStr.substring(1));
+            if (id <= 0) {
+                throw new CherishException("Task ID must be a positive integer.");
+            }
+            return TaskReference.ofId(id);
+        } catch (NumberFormatException e) {
+            throw new CherishException(
+                    "Invalid task ID! Please enter a number after '" + commandName + " #'."
+            );
+        }
+    }
+
+    /**
+     * Checks whether a command refers to several tasks, with a list or a range such as {@code 1-3,7}.
+     */
+    private static boolean isSelection(String input, String commandName) {
+        if (!input.startsWith(commandName + " ")) {
+            return false;
+        }
+        String refStr = input.substring(commandName.length()).trim();
+        return refStr.contains(",") || refStr.indexOf('-') > 0;
+    }
+
+    /**
+     * Parses a list of 1-based task numbers, ranges of them and {@code #ID}s, separated by commas.
+     * Format: e.g. {@code mark 1-300} or {@code delete 4,9,#12}
+     *
+     * @param input Full command string.
+     * @param commandName Name of the command (e.g. "mark").
+     * @return The selected tasks.
+     * @throws CherishException If an item is not a positive number, a valid range or an ID.
+     */
+    private static TaskSelection parseSelection(String input, String commandName) throws CherishException {
+        TaskSelection selection = new TaskSelection();
+        for (String item : input.substring(commandName.length()).replace(" ", "").split(",", -1)) {
+            if (item.startsWith("#")) {
+                selection.add(parseReference(commandName + " " + item, commandName));
+                continue;
+            }
+
+            int dash = item.indexOf('-');
+            if (dash < 0) {
+                selection.add(TaskReference.ofIndex(parsePositive(item, "task number") - 1));
+                continue;
+            }
+
+            int first = parsePositive(item.substring(0, dash), "task number");
+            int last = parsePositive(item.substring(dash + 1), "task number");
+            if (first > last) {
+                throw new CherishException("Invalid range " + item + "! Use task numbers, ranges and IDs "
+                        + "separated by commas, e.g. '" + commandName + " 1-3,7,#12'.");
+            }
+            selection.addRange(first - 1, last - 1);
+        }
+        return selection;
+    }
+
     /**
      * Parses and validates a 1-based task index.
      * @param input Full command string.
@@ -235,6 +340,81 @@ public class Parser {
         return new FindDateCommand(dateStr);
     }
 
+    /**
+     * Parses a {@code list} command with a page.
+     * Format: {@code list PAGE [SIZE]}
+     *
+     * @param input Full command string.
+     * @return A {@link ListCommand} for one page.
+     * @throws CherishException If the page or size is not a positive integer.
+     */
+    private static Command parseList(String input) throws CherishException {
+        String[] parts = input.substring("list".length()).trim().split(" ");
+        if (parts.length > 2) {
+            throw new CherishException("Invalid list format! Use: list [PAGE] [SIZE]");
+        }
+
+        int page = parsePositive(parts[0], "page number");
+        int pageSize = parts.length == 2 ? parsePositive(parts[1], "page size") : TaskList.LIST_PAGE_SIZE;
+        return new ListCommand(page, pageSize);
+    }
+
+    /**
+     * Parses an {@code upcoming} command with a count.
+     * Format: {@code upcoming COUNT}
+     *
+     * @param input Full command string.
+     * @return An {@link UpcomingCommand}.
+     * @throws CherishException If the count is not a positive integer.
+     */
+    private static Command parseUpcoming(String input) throws CherishException {
+        String countStr = input.substring("upcoming".length()).trim();
+        if (countStr.contains(" ")) {
+            throw new CherishException("Invalid upcoming format! Use: upcoming [COUNT]");
+        }
+        return new UpcomingCommand(parsePositive(countStr, "number of tasks"));
+    }
+
+    /**
+     * Parses a positive integer argument.
+     *
+     * @param numStr The argument.
+     * @param name Name of the argument for error messages (e.g. "page number").
+     * @return The value.
+     * @throws CherishException If the argument is not a positive integer.
+     */
+    private static int parsePositive(String numStr, String name) throws CherishException {
+        try {
+            int value = Integer.parseInt(numStr);
+            if (value < 1) {
+                throw new CherishException("The " + name + " must be a positive integer.");
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new CherishException("Invalid " + name + "! Please enter a positive number.");
+        }
+    }
+
+    /**
+     * Parses a {@code findrange} command.
+     * Format: {@code findrange yyyy-MM-dd yyyy-MM-dd [PAGE]}
+     *
+     * @param input Full command string.
+     * @return A {@link FindRangeCommand}.
+     * @throws CherishException If a date is missing or the page is not a positive integer.
+     */
+    private static Command parseFindRange(String input) throws CherishException {
+        String[] parts = input.substring("findrange".length()).trim().split(" ");
+        if (parts.length < 2 || parts.length > 3) {
+            throw new CherishException(
+                    "Invalid findrange format! Use: findrange yyyy-MM-dd yyyy-MM-dd [PAGE]"
+            );
+        }
+
+        int page = parts.length == 3 ? parsePositive(parts[2], "page number") : 1;
+        return new FindRangeCommand(parts[0], parts[1], page);
+    }
+
     /**
      * Parses a {@code find} command.
      *
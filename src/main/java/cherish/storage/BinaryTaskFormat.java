@@ -0,0 +1,447 @@
+package cherish.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+import cherish.CherishException;
+import cherish.model.Deadline;
+import cherish.model.Event;
+import cherish.model.Task;
+import cherish.model.Todo;
+
+/**
+ * Versioned binary snapshot format.
+ *
+ * The file starts with a 4-byte magic number and a version byte, followed by one record per task:
+ * Todo:     'T' | flag | ID (long) | description length (int) | UTF-8 description
+ * Deadline: 'D' | flag | ID | length | description | by (long)
+ * Event:    'E' | flag | ID | length | description | from (long) | to (long)
+ *
+ * Version 1 records have no ID field; they are still read, and their tasks get IDs from the task list.
+ *
+ * The flag byte is 0 or 1 for the completion status, or 2 for a removed record
+ * that is skipped on load. Flags are rewritten in place by {@link SlotFile}.
+ *
+ * Dates are stored as minutes since the epoch in UTC, the same precision as the text format.
+ * Numbers are big-endian. The magic number starts with a non-ASCII byte,
+ * so a binary file can never be mistaken for a text file and vice versa.
+ */
+final class BinaryTaskFormat {
+
+    /** Current format version, written after the magic number. */
+    static final int VERSION = 2;
+
+    /** Version without task IDs. */
+    private static final int VERSION_WITHOUT_IDS = 1;
+
+    /** Flag of a task that is not done. */
+    static final byte NOT_DONE = 0;
+
+    /** Flag of a task that is done. */
+    static final byte DONE = 1;
+
+    /** Flag of a removed record, left in place until the file is rewritten. */
+    static final byte REMOVED = 2;
+
+    /** Position of the flag byte within a record. */
+    static final int FLAG_OFFSET = 1;
+
+    private static final byte[] MAGIC = { (byte) 0x89, 'C', 'H', 'R' };
+
+    /** Size of the magic number and version byte. */
+    private static final int HEADER_BYTES = MAGIC.length + 1;
+
+    /** Size of the type, flag, ID and description length fields. */
+    private static final int RECORD_PREFIX_BYTES = 14;
+
+    /** Size of the type, flag and description length fields of a version 1 record. */
+    private static final int RECORD_PREFIX_BYTES_WITHOUT_IDS = 6;
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    /** Largest description length accepted on read, so a corrupted length cannot exhaust memory. */
+    private static final int MAX_DESCRIPTION_BYTES = 16 * 1024 * 1024;
+
+    private BinaryTaskFormat() {
+    }
+
+    /**
+     * Checks whether the given file starts with the binary magic number.
+     *
+     * @param file An existing storage file.
+     * @return True if the file is in the binary format.
+     * @throws CherishException If the file cannot be read.
+     */
+    static boolean isBinary(Path file) throws CherishException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
+        }
+    }
+
+    /**
+     * Checks whether the given binary file is in the current version, so records can be appended to it.
+     *
+     * @param file A file for which {@link #isBinary(Path)} holds.
+     * @return True if the file has the current version.
+     * @throws CherishException If the file cannot be read.
+     */
+    static boolean isCurrentVersion(Path file) throws CherishException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.skip(MAGIC.length) == MAGIC.length && in.read() == VERSION;
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
+        }
+    }
+
+    /**
+     * Writes the header and all tasks to the given stream. The stream is flushed but not closed.
+     *
+     * @param stream Destination of the binary snapshot.
+     * @param tasks Tasks to write, in list order.
+     * @param slots Cleared index to fill with the record offsets, or null.
+     * @throws IOException If writing fails.
+     */
+    static void write(OutputStream stream, Task[] tasks, SlotFile slots) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_BYTES));
+        writeHeader(out);
+        long position = HEADER_BYTES;
+        for (Task task : tasks) {
+            if (slots != null) {
+                slots.addSlot(position);
+            }
+            position += writeTask(out, task);
+        }
+        out.flush();
+        if (slots != null) {
+            slots.finish(position);
+        }
+    }
+
+    /**
+     * Encodes a single task as a record, for appending to an existing file.
+     *
+     * @param task The task to encode.
+     * @return The record bytes.
+     */
+    static byte[] encode(Task task) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeTask(new DataOutputStream(bytes), task);
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory cannot fail", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads every live task in the given binary file, skipping removed records.
+     * When slots are indexed, the file is a slot file that grows by appends, so a last record
+     * cut short by an interrupted append is dropped and cut off the file instead of failing the load.
+     *
+     * @param file A file for which {@link #isBinary(Path)} holds.
+     * @param tasks List the tasks are appended to, in file order.
+     * @param slots Cleared index to fill with the record offsets, or null.
+     * @throws CherishException If the file cannot be read, has an unknown version or is corrupted.
+     */
+    static void read(Path file, List<Task> tasks, SlotFile slots) throws CherishException {
+        InputStream stream;
+        long size;
+        try {
+            size = Files.size(file);
+            stream = Files.newInputStream(file);
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
+        }
+        read(stream, size, tasks, slots);
+    }
+
+    /**
+     * Reads every live task of a binary snapshot from the given stream, skipping removed records.
+     *
+     * @param stream Stream positioned at the start of the snapshot header. It is closed afterwards.
+     * @param tasks List the tasks are appended to, in file order.
+     * @param slots Cleared index to fill with the record offsets, or null.
+     * @throws CherishException If the stream cannot be read, has an unknown version or is corrupted.
+     */
+    static void read(InputStream stream, List<Task> tasks, SlotFile slots) throws CherishException {
+        read(stream, Long.MAX_VALUE, tasks, slots);
+    }
+
+    /**
+     * Reads every live task of a binary snapshot of known size from the given stream.
+     *
+     * @param size Number of bytes in the stream, or {@link Long#MAX_VALUE} if unknown.
+     */
+    private static void read(InputStream stream, long size, List<Task> tasks, SlotFile slots)
+            throws CherishException {
+        boolean isTorn = false;
+        try (RecordReader reader = new RecordReader(stream, size)) {
+            long end = HEADER_BYTES;
+            while (reader.hasMore()) {
+                long offset = reader.getPosition();
+                Task task;
+                try {
+                    task = reader.next();
+                } catch (EOFException e) {
+                    if (slots == null) {
+                        throw e;
+                    }
+                    // The remains of an interrupted append.
+                    isTorn = true;
+                    break;
+                }
+                end = reader.getPosition();
+                if (task == null) {
+                    if (slots != null) {
+                        slots.addTombstone();
+                    }
+                    continue;
+                }
+                tasks.add(task);
+                if (slots != null) {
+                    slots.addSlot(offset);
+                }
+            }
+            if (slots != null) {
+                slots.finish(end);
+            }
+        } catch (EOFException e) {
+            throw new CherishException("Corrupted data format in storage file.");
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
+        }
+
+        if (isTorn) {
+            slots.truncateTornRecord();
+        }
+    }
+
+    /**
+     * Converts a text storage file into the binary format, one task at a time.
+     *
+     * @param source File in the text format.
+     * @param target File to write the binary snapshot to; replaced if it exists.
+     * @throws CherishException If either file cannot be accessed or the source is corrupted.
+     */
+    static void convertTextToBinary(Path source, Path target) throws CherishException {
+        try (BufferedReader reader = Files.newBufferedReader(source);
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(target), BUFFER_BYTES))) {
+            writeHeader(out);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    writeTask(out, TaskLineParser.parse(line));
+                }
+            }
+        } catch (IOException e) {
+            throw new CherishException("Failed to convert storage file.");
+        }
+    }
+
+    /**
+     * Converts a binary storage file back into the text format, one task at a time.
+     *
+     * @param source File in the binary format.
+     * @param target File to write the text snapshot to; replaced if it exists.
+     * @throws CherishException If either file cannot be accessed or the source is corrupted.
+     */
+    static void convertBinaryToText(Path source, Path target) throws CherishException {
+        try (RecordReader reader = new RecordReader(Files.newInputStream(source), Files.size(source));
+                BufferedWriter writer = Files.newBufferedWriter(target)) {
+            while (reader.hasMore()) {
+                Task task = reader.next();
+                if (task != null) {
+                    writer.write(TaskLineParser.format(task));
+                    writer.newLine();
+                }
+            }
+        } catch (EOFException e) {
+            throw new CherishException("Corrupted data format in storage file.");
+        } catch (IOException e) {
+            throw new CherishException("Failed to convert storage file.");
+        }
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+    }
+
+    /**
+     * Writes one record and returns its size in bytes.
+     */
+    private static int writeTask(DataOutputStream out, Task task) throws IOException {
+        byte[] description = task.getDescription().getBytes(StandardCharsets.UTF_8);
+
+        out.writeByte(task.getType().getSymbol().charAt(0));
+        out.writeByte(task.isDone() ? DONE : NOT_DONE);
+        out.writeLong(task.getId());
+        out.writeInt(description.length);
+        out.write(description);
+
+        switch (task.getType()) {
+        case DEADLINE:
+            out.writeLong(toEpochMinutes(((Deadline) task).getBy()));
+            return RECORD_PREFIX_BYTES + description.length + Long.BYTES;
+
+        case EVENT:
+            out.writeLong(toEpochMinutes(((Event) task).getFrom()));
+            out.writeLong(toEpochMinutes(((Event) task).getTo()));
+            return RECORD_PREFIX_BYTES + description.length + 2 * Long.BYTES;
+
+        default:
+            return RECORD_PREFIX_BYTES + description.length;
+        }
+    }
+
+    private static long toEpochMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromEpochMinutes(long minutes) throws CherishException {
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(minutes, 60), 0, ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new CherishException("Invalid date/time format in storage file.");
+        }
+    }
+
+    /**
+     * Reads records one at a time, keeping track of the offset of the next one.
+     */
+    private static final class RecordReader implements Closeable {
+
+        private final DataInputStream in;
+
+        private final boolean hasIds;
+
+        /** Number of bytes in the snapshot, or {@link Long#MAX_VALUE} if unknown. */
+        private final long size;
+
+        private long position = HEADER_BYTES;
+
+        /**
+         * Wraps a stream positioned at a binary snapshot and checks its header.
+         * The stream is closed if the header is invalid.
+         */
+        RecordReader(InputStream stream, long size) throws IOException, CherishException {
+            this.in = new DataInputStream(new BufferedInputStream(stream, BUFFER_BYTES));
+            this.size = size;
+            try {
+                byte[] magic = in.readNBytes(MAGIC.length);
+                if (!Arrays.equals(magic, MAGIC)) {
+                    throw new CherishException("Corrupted data format in storage file.");
+                }
+                int version = in.read();
+                if (version != VERSION && version != VERSION_WITHOUT_IDS) {
+                    throw new CherishException("Unsupported storage file version.");
+                }
+                this.hasIds = version == VERSION;
+            } catch (IOException | CherishException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        long getPosition() {
+            return position;
+        }
+
+        /**
+         * Checks whether another record follows, without consuming it.
+         */
+        boolean hasMore() throws IOException {
+            in.mark(1);
+            boolean hasMore = in.read() >= 0;
+            in.reset();
+            return hasMore;
+        }
+
+        /**
+         * Reads the next record.
+         *
+         * @return The task, or null if the record was removed.
+         * @throws EOFException If the record runs past the end of the snapshot.
+         */
+        Task next() throws IOException, CherishException {
+            byte type = in.readByte();
+            byte flag = in.readByte();
+            long id = hasIds ? in.readLong() : 0;
+            int length = in.readInt();
+            if (length < 0 || length > MAX_DESCRIPTION_BYTES || id < 0 || flag < NOT_DONE || flag > REMOVED) {
+                throw new CherishException("Corrupted data format in storage file.");
+            }
+            long descriptionEnd = position + (hasIds ? RECORD_PREFIX_BYTES : RECORD_PREFIX_BYTES_WITHOUT_IDS) + length;
+            if (descriptionEnd > size) {
+                throw new EOFException("Record runs past the end of the storage file");
+            }
+
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            String description = new String(bytes, StandardCharsets.UTF_8);
+            position += (hasIds ? RECORD_PREFIX_BYTES : RECORD_PREFIX_BYTES_WITHOUT_IDS) + length;
+
+            Task task;
+            switch (type) {
+            case 'T':
+                task = new Todo(description);
+                break;
+
+            case 'D':
+                task = new Deadline(description, fromEpochMinutes(in.readLong()));
+                position += Long.BYTES;
+                break;
+
+            case 'E': {
+                LocalDateTime from = fromEpochMinutes(in.readLong());
+                LocalDateTime to = fromEpochMinutes(in.readLong());
+                task = new Event(description, from, to);
+                position += 2 * Long.BYTES;
+                break;
+            }
+
+            default:
+                throw new CherishException("Unknown task type in storage file.");
+            }
+
+            if (flag == REMOVED) {
+                return null;
+            }
+            if (flag == DONE) {
+                task.markAsDone();
+            }
+            task.setId(id);
+            return task;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package cherish.storage;
+
+/**
+ * Enum representing how hard {@link Storage} works to get saved data onto the physical disk.
+ * Every mode writes snapshots to a temporary file and atomically renames it into place,
+ * so a crash never leaves a half-written storage file; the modes differ only in when
+ * data is forced out of the operating system's cache.
+ */
+public enum Durability {
+    /**
+     * Never forces data to disk. Survives an application crash,
+     * but an operating system crash or power loss may lose recent saves.
+     */
+    NONE,
+
+    /**
+     * Forces each snapshot before it is renamed into place, and journal records
+     * once per batch: per write-behind interval, or on {@link Storage#flush()}.
+     */
+    BATCH,
+
+    /** Forces every snapshot and every journal append before the save completes. */
+    ALWAYS
+}
@@ -0,0 +1,275 @@
+package cherish.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import cherish.CherishException;
+import cherish.model.Task;
+
+/**
+ * Append-only log of task list mutations, replayed over the last snapshot on load.
+ * Each command appends one short record instead of rewriting the whole storage file.
+ *
+ * Record formats (one per line, indexes are zero-based):
+ * Add:    A | #id | T | 0 | description ...
+ * Insert: I | index | #id | T | 0 | description ...
+ * Remove: R | index
+ * Mark:   M | index | 0/1
+ */
+final class Journal {
+
+    private static final String SEPARATOR = " | ";
+
+    private final Path path;
+
+    /** Number of records in the journal file. */
+    private int recordCount;
+
+    /** Size of the journal file in bytes. */
+    private long byteCount;
+
+    /**
+     * Constructs a Journal backed by the given file.
+     *
+     * @param path Path to the journal file.
+     */
+    Journal(Path path) {
+        this.path = path;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Returns the record for a task appended to the end of the list.
+     */
+    static String addRecord(Task task) {
+        return "A" + SEPARATOR + TaskLineParser.format(task);
+    }
+
+    /**
+     * Returns the record for a task inserted at the given position.
+     */
+    static String insertRecord(int index, Task task) {
+        return "I" + SEPARATOR + index + SEPARATOR + TaskLineParser.format(task);
+    }
+
+    /**
+     * Returns the record for the removal of the task at the given position.
+     */
+    static String removeRecord(int index) {
+        return "R" + SEPARATOR + index;
+    }
+
+    /**
+     * Returns the record for a change of completion status of the task at the given position.
+     */
+    static String markRecord(int index, boolean isDone) {
+        return "M" + SEPARATOR + index + SEPARATOR + (isDone ? "1" : "0");
+    }
+
+    /**
+     * Appends the given records to the journal file with a single write.
+     *
+     * @param records Records in the order they happened.
+     * @param shouldForce Whether to force the records to disk before returning.
+     * @throws CherishException If the journal cannot be written.
+     */
+    void append(List<String> records, boolean shouldForce) throws CherishException {
+        StringBuilder batch = new StringBuilder();
+        for (String record : records) {
+            batch.append(record).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+        int size = buffer.remaining();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (shouldForce) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new CherishException("Failed to append to the storage journal.");
+        }
+        recordCount += records.size();
+        byteCount += size;
+    }
+
+    /**
+     * Forces everything appended so far to disk.
+     */
+    void force() throws CherishException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new CherishException("Failed to write the storage journal to disk.");
+        }
+    }
+
+    /**
+     * Replays every complete record of the journal over the given tasks.
+     *
+     * A trailing record without a line terminator is the remains of an interrupted append.
+     * It is ignored and cut off so that later appends start on a fresh line.
+     *
+     * @param tasks Tasks loaded from the last snapshot, updated in place.
+     * @throws CherishException If the journal cannot be read or contains a corrupted record.
+     */
+    void replay(List<Task> tasks) throws CherishException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new CherishException("Failed to read the storage journal.");
+        }
+
+        int lineStart = 0;
+        int records = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8).strip();
+            if (!line.isEmpty()) {
+                applyRecord(line, tasks);
+                records++;
+            }
+            lineStart = i + 1;
+        }
+
+        if (lineStart < bytes.length) {
+            truncate(lineStart);
+        }
+
+        recordCount = records;
+        byteCount = lineStart;
+    }
+
+    /**
+     * Atomically renames the journal file to the given path and starts an empty journal.
+     *
+     * @param target New path of the current journal file.
+     * @throws CherishException If the file cannot be renamed.
+     */
+    void moveTo(Path target) throws CherishException {
+        try {
+            Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new CherishException("Failed to rotate the storage journal.");
+        }
+        recordCount = 0;
+        byteCount = 0;
+    }
+
+    /**
+     * Deletes the journal file if it exists.
+     */
+    void delete() throws CherishException {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new CherishException("Failed to clear the storage journal.");
+        }
+        recordCount = 0;
+        byteCount = 0;
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private void truncate(long size) throws CherishException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        } catch (IOException e) {
+            throw new CherishException("Failed to repair the storage journal.");
+        }
+    }
+
+    private static void applyRecord(String record, List<Task> tasks) throws CherishException {
+        if (record.length() < 4 || !record.startsWith(SEPARATOR, 1)) {
+            throw corrupted();
+        }
+
+        String body = record.substring(1 + SEPARATOR.length());
+
+        switch (record.charAt(0)) {
+        case 'A':
+            tasks.add(TaskLineParser.parse(body));
+            break;
+
+        case 'I': {
+            int split = body.indexOf(SEPARATOR);
+            if (split < 0) {
+                throw corrupted();
+            }
+            int index = parseIndex(body.substring(0, split), tasks.size() + 1);
+            tasks.add(index, TaskLineParser.parse(body.substring(split + SEPARATOR.length())));
+            break;
+        }
+
+        case 'R':
+            tasks.remove(parseIndex(body, tasks.size()));
+            break;
+
+        case 'M': {
+            int split = body.indexOf(SEPARATOR);
+            if (split < 0) {
+                throw corrupted();
+            }
+            Task task = tasks.get(parseIndex(body.substring(0, split), tasks.size()));
+            if ("1".equals(body.substring(split + SEPARATOR.length()))) {
+                task.markAsDone();
+            } else {
+                task.markAsNotDone();
+            }
+            break;
+        }
+
+        default:
+            throw corrupted();
+        }
+    }
+
+    private static int parseIndex(String value, int bound) throws CherishException {
+        try {
+            int index = Integer.parseInt(value);
+            if (index < 0 || index >= bound) {
+                throw corrupted();
+            }
+            return index;
+        } catch (NumberFormatException e) {
+            throw corrupted();
+        }
+    }
+
+    private static CherishException corrupted() {
+        return new CherishException("Corrupted record in storage journal.");
+    }
+}
@@ -0,0 +1,35 @@
+package cherish.storage;
+
+/**
+ * Collects the time taken by storage writes, so the cost of each durability mode
+ * can be measured on the machine it is deployed to.
+ * Safe to use from the command thread and the background writer at the same time.
+ */
+final class LatencyStats {
+
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records one write that started at the given {@link System#nanoTime()}.
+     */
+    synchronized void recordSince(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        count++;
+        totalNanos += elapsed;
+        maxNanos = Math.max(maxNanos, elapsed);
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    synchronized long getAverageMicros() {
+        return count == 0 ? 0 : totalNanos / count / 1_000;
+    }
+
+    synchronized long getMaxMicros() {
+        return maxNanos / 1_000;
+    }
+}
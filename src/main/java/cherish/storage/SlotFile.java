@@ -0,0 +1,237 @@
+package cherish.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import cherish.CherishException;
+import cherish.model.Task;
+
+/**
+ * Index of the record offsets of a binary storage file, for changing single tasks in place.
+ *
+ * Slot i holds the offset of the record of the i-th task in the list.
+ * Marking a task rewrites its flag byte, removing it overwrites the same byte with a tombstone,
+ * and adding a task appends one record. Each is a single positioned write,
+ * whatever the size of the list.
+ *
+ * An append interrupted by a crash can leave a partial record at the end of the file.
+ * Like the journal's partial last line, it is cut off when the file is next read.
+ */
+final class SlotFile {
+
+    private static final Logger LOGGER = Logger.getLogger(SlotFile.class.getName());
+
+    /** Minimum number of tombstones before the file is worth rewriting. */
+    private static final int MIN_RECLAIM_TOMBSTONES = 64;
+
+    private final Path path;
+
+    /** Record offsets of the live tasks, in list order. Only the first slotCount are used. */
+    private long[] offsets = new long[16];
+
+    private int slotCount;
+
+    /** Number of removed records still taking up space in the file. */
+    private int tombstoneCount;
+
+    /** Size of the file in bytes, where the next record is appended. */
+    private long length;
+
+    /** Whether the offsets match the current file. */
+    private boolean isIndexed;
+
+    /**
+     * Constructs a SlotFile for the given binary storage file. The index starts out empty.
+     *
+     * @param path Path to the binary storage file.
+     */
+    SlotFile(Path path) {
+        this.path = path;
+    }
+
+    boolean isIndexed() {
+        return isIndexed;
+    }
+
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    int getTombstoneCount() {
+        return tombstoneCount;
+    }
+
+    /**
+     * Checks whether tombstones take up more of the file than live records,
+     * so that rewriting it would reclaim most of its space.
+     */
+    boolean shouldReclaim() {
+        return tombstoneCount >= MIN_RECLAIM_TOMBSTONES && tombstoneCount > slotCount;
+    }
+
+    /**
+     * Forgets all offsets, for example before the file is rewritten.
+     */
+    void clear() {
+        slotCount = 0;
+        tombstoneCount = 0;
+        length = 0;
+        isIndexed = false;
+    }
+
+    /**
+     * Records the offset of the next live record while the file is being read or written.
+     */
+    void addSlot(long offset) {
+        if (slotCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, slotCount * 2);
+        }
+        offsets[slotCount++] = offset;
+    }
+
+    /**
+     * Records a removed record while the file is being read.
+     */
+    void addTombstone() {
+        tombstoneCount++;
+    }
+
+    /**
+     * Completes the index once the whole file has been read or written.
+     *
+     * @param length Size of the file in bytes.
+     */
+    void finish(long length) {
+        this.length = length;
+        this.isIndexed = true;
+    }
+
+    /**
+     * Cuts off a partial record after the last whole one, left by an interrupted append.
+     * Must be called after {@link #finish(long)} with the end of the last whole record.
+     *
+     * @throws CherishException If the file cannot be truncated.
+     */
+    void truncateTornRecord() throws CherishException {
+        assert isIndexed : "Slots must be indexed before repairing";
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            LOGGER.warning("Dropping " + (channel.size() - length) + " bytes of an interrupted append at the end of "
+                    + path);
+            channel.truncate(length);
+        } catch (IOException e) {
+            throw new CherishException("Failed to repair the storage file.");
+        }
+    }
+
+    /**
+     * Appends a record for a task added to the end of the list.
+     *
+     * @param task The added task.
+     * @param shouldForce Whether to force the write to disk before returning.
+     * @throws CherishException If the file cannot be written.
+     */
+    void append(Task task, boolean shouldForce) throws CherishException {
+        assert isIndexed : "Slots must be indexed before writing";
+        byte[] record = BinaryTaskFormat.encode(task);
+        write(ByteBuffer.wrap(record), length, shouldForce);
+        addSlot(length);
+        length += record.length;
+    }
+
+    /**
+     * Rewrites the flag byte of a task in place.
+     *
+     * @param index Zero-based position of the task.
+     * @param isDone New completion status.
+     * @param shouldForce Whether to force the write to disk before returning.
+     * @throws CherishException If the file cannot be written.
+     */
+    void mark(int index, boolean isDone, boolean shouldForce) throws CherishException {
+        writeFlag(index, isDone ? BinaryTaskFormat.DONE : BinaryTaskFormat.NOT_DONE, shouldForce);
+    }
+
+    /**
+     * Turns the record of a task into a tombstone and drops its slot.
+     *
+     * @param index Zero-based position the task was removed from.
+     * @param shouldForce Whether to force the write to disk before returning.
+     * @throws CherishException If the file cannot be written.
+     */
+    void remove(int index, boolean shouldForce) throws CherishException {
+        writeFlag(index, BinaryTaskFormat.REMOVED, shouldForce);
+        System.arraycopy(offsets, index + 1, offsets, index, slotCount - index - 1);
+        slotCount--;
+        tombstoneCount++;
+    }
+
+    /**
+     * Turns the records of several tasks into tombstones and drops their slots in a single pass.
+     *
+     * @param indexes Zero-based positions the tasks were removed from, in ascending order without duplicates.
+     * @param shouldForce Whether to force the writes to disk before returning.
+     * @throws CherishException If the file cannot be written.
+     */
+    void removeAll(int[] indexes, boolean shouldForce) throws CherishException {
+        for (int i = 0; i < indexes.length; i++) {
+            writeFlag(indexes[i], BinaryTaskFormat.REMOVED, shouldForce && i == indexes.length - 1);
+        }
+
+        int write = indexes.length == 0 ? slotCount : indexes[0];
+        int next = 0;
+        for (int read = write; read < slotCount; read++) {
+            if (next < indexes.length && indexes[next] == read) {
+                next++;
+            } else {
+                offsets[write++] = offsets[read];
+            }
+        }
+        slotCount = write;
+        tombstoneCount += indexes.length;
+    }
+
+    /**
+     * Forces every write so far to disk.
+     */
+    void force() throws CherishException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new CherishException("Failed to write tasks to disk.");
+        }
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private void writeFlag(int index, byte flag, boolean shouldForce) throws CherishException {
+        assert isIndexed : "Slots must be indexed before writing";
+        if (index < 0 || index >= slotCount) {
+            throw new CherishException("Storage file is out of sync with the task list.");
+        }
+        write(ByteBuffer.wrap(new byte[]{ flag }), offsets[index] + BinaryTaskFormat.FLAG_OFFSET, shouldForce);
+    }
+
+    private void write(ByteBuffer buffer, long position, boolean shouldForce) throws CherishException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            long offset = position;
+            while (buffer.hasRemaining()) {
+                offset += channel.write(buffer, offset);
+            }
+            if (shouldForce) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new CherishException("Failed to save tasks to storage file.");
+        }
+    }
+}
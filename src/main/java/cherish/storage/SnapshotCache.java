@@ -0,0 +1,142 @@
+package cherish.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import cherish.CherishException;
+import cherish.model.Task;
+
+/**
+ * Binary copy of a text snapshot kept next to it, so unchanged files load without parsing.
+ *
+ * The cache starts with the size, modification time and CRC32C checksum of the text file
+ * it was built from, followed by the tasks in {@link BinaryTaskFormat}.
+ * It is only used while all three still match the text file.
+ */
+final class SnapshotCache {
+
+    /** Size of the buffer the text file is checksummed through. */
+    private static final int CHECKSUM_BUFFER_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final Path cachePath;
+    private final Path tempPath;
+
+    /**
+     * Buffer the text file is read through for its checksum, reused by every load.
+     * The file is not memory-mapped, since a mapping would stay open until garbage collected
+     * and on Windows stop the file from being replaced.
+     */
+    private final ByteBuffer checksumBuffer = ByteBuffer.allocateDirect(CHECKSUM_BUFFER_BYTES);
+
+    /** Key of the text file as of the last {@link #read(List)}. */
+    private long fileSize;
+    private long modifiedMillis;
+    private long checksum;
+
+    /**
+     * Constructs a SnapshotCache for the given text snapshot.
+     *
+     * @param file Path to the text snapshot.
+     * @param cachePath Path to the cache file.
+     */
+    SnapshotCache(Path file, Path cachePath) {
+        this.file = file;
+        this.cachePath = cachePath;
+        this.tempPath = Path.of(cachePath + ".tmp");
+    }
+
+    /**
+     * Reads the tasks from the cache if it was built from the text file as it is now.
+     * The key of the text file is remembered for a following {@link #write(List)}.
+     *
+     * @param tasks List the cached tasks are appended to. Left untouched on a miss.
+     * @return True if the cache was valid and read, false if the text file has to be parsed.
+     * @throws CherishException If the text file cannot be read.
+     */
+    boolean read(List<Task> tasks) throws CherishException {
+        computeKey();
+        if (!Files.exists(cachePath)) {
+            return false;
+        }
+
+        try (InputStream stream = Files.newInputStream(cachePath)) {
+            DataInputStream in = new DataInputStream(stream);
+            if (in.readLong() != fileSize || in.readLong() != modifiedMillis || in.readLong() != checksum) {
+                return false;
+            }
+
+            List<Task> cached = new ArrayList<>();
+            BinaryTaskFormat.read(stream, cached, null);
+            tasks.addAll(cached);
+            return true;
+        } catch (IOException | CherishException e) {
+            // A damaged cache is simply rebuilt from the text file.
+            return false;
+        }
+    }
+
+    /**
+     * Replaces the cache with the given tasks, keyed by the text file as of the last {@link #read(List)}.
+     *
+     * @param tasks The tasks parsed from the text file.
+     * @throws CherishException If the cache cannot be written.
+     */
+    void write(List<Task> tasks) throws CherishException {
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeLong(fileSize);
+            out.writeLong(modifiedMillis);
+            out.writeLong(checksum);
+            BinaryTaskFormat.write(out, tasks.toArray(new Task[0]), null);
+        } catch (IOException e) {
+            throw new CherishException("Failed to write storage cache.");
+        }
+
+        try {
+            Files.move(tempPath, cachePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new CherishException("Failed to write storage cache.");
+        }
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    /**
+     * Reads the size and modification time of the text file and checksums its contents.
+     */
+    private void computeKey() throws CherishException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            fileSize = attributes.size();
+            modifiedMillis = attributes.lastModifiedTime().toMillis();
+
+            CRC32C crc = new CRC32C();
+            checksumBuffer.clear();
+            while (channel.read(checksumBuffer) >= 0) {
+                checksumBuffer.flip();
+                crc.update(checksumBuffer);
+                checksumBuffer.clear();
+            }
+            checksum = crc.getValue();
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
+        }
+    }
+}
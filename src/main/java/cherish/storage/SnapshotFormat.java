@@ -0,0 +1,13 @@
+package cherish.storage;
+
+/**
+ * Enum representing the file format {@link Storage} writes snapshots in.
+ * Either format is recognised on load, whichever is configured for writing.
+ */
+public enum SnapshotFormat {
+    /** Human-readable pipe-delimited lines, one task per line. */
+    TEXT,
+
+    /** Compact versioned binary records that load without tokenizing or date parsing. */
+    BINARY
+}
@@ -3,47 +3,282 @@ package cherish.storage;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import cherish.CherishException;
-import cherish.model.Deadline;
-import cherish.model.Event;
 import cherish.model.Task;
-import cherish.model.TaskType;
-import cherish.model.Todo;
+import cherish.model.TaskList;
 
 /**
  * Handles loading and saving tasks to a local storage file.
  * Responsible for creating the data directory, reading persisted data,
  * and writing tasks back to disk.
  *
+ * In {@link StorageMode#JOURNAL} mode, each change is appended to a journal file
+ * next to the storage file instead of rewriting the whole list,
+ * and the journal is replayed over the storage file on load.
+ * Once the journal grows past a record or size threshold, it is sealed and
+ * folded into a new snapshot on a background thread, so commands never wait
+ * for compaction and load time stays bounded by the snapshot size.
+ *
+ * With write-behind enabled, saves only queue the change in memory and a single
+ * background writer persists queued changes in batches. See {@link #setWriteBehind(long)}.
+ *
+ * Snapshots are always written to a temporary file and atomically renamed into place.
+ * The {@link Durability} mode decides when written data is forced to disk,
+ * and the time taken by every write is recorded for {@link #getSaveLatencySummary()}.
+ *
  * This class detects file I/O issues and corrupted storage data,
  * and reports them using CherishException.
  */
 public class Storage {
 
-    /** Date-time format used for saving and loading task data. */
-    private static final DateTimeFormatter SAVE_FORMATTER =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    /** Default number of journal records that triggers a compaction. */
+    public static final int DEFAULT_COMPACTION_RECORDS = 10_000;
+
+    /** Default journal size in bytes that triggers a compaction. */
+    public static final long DEFAULT_COMPACTION_BYTES = 4L * 1024 * 1024;
+
+    /** Rough size of one line in the storage file, used to presize the task list on load. */
+    private static final int ESTIMATED_LINE_BYTES = 48;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String SEALED_JOURNAL_SUFFIX = ".journal.sealed";
+    private static final String APPLIED_JOURNAL_SUFFIX = ".journal.applied";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CACHE_SUFFIX = ".cache";
 
     /** Path to the storage file. */
     private final String filePath;
 
+    /** How changes to the task list are persisted. */
+    private final StorageMode mode;
+
+    /** Journal of changes since the last snapshot, used in journal mode only. */
+    private final Journal journal;
+
+    /** Record offsets of the storage file, used in slotted mode only. */
+    private final SlotFile slots;
+
+    /** When written data is forced to disk. */
+    private Durability durability = Durability.NONE;
+
+    /** Format new snapshots are written in. Both formats are read regardless. */
+    private SnapshotFormat snapshotFormat = SnapshotFormat.TEXT;
+
+    /** Binary copy of the text snapshot read on load, or null if disabled. */
+    private SnapshotCache snapshotCache;
+
+    /** Time taken by snapshot writes and journal appends. */
+    private final LatencyStats saveLatency = new LatencyStats();
+
+    /** Single background thread for compaction and write-behind, created on first use. */
+    private volatile ScheduledExecutorService backgroundWriter;
+
+    /** The compaction currently running or queued, if any. */
+    private volatile Future<?> pendingCompaction;
+
+    private int compactionRecords = DEFAULT_COMPACTION_RECORDS;
+    private long compactionBytes = DEFAULT_COMPACTION_BYTES;
+
+    /** Delay before queued changes are written, or 0 to write synchronously. */
+    private long writeBehindMillis;
+
+    /** Guards the write-behind queue below, shared with the background writer. */
+    private final Object queueLock = new Object();
+
+    /** Latest full snapshot waiting to be written; older ones are simply replaced. */
+    private Task[] queuedSnapshot;
+
+    /** Journal records waiting to be written, all newer than {@link #queuedSnapshot}. */
+    private List<String> queuedRecords = new ArrayList<>();
+
+    private boolean isFlushScheduled;
+
+    /**
+     * Failure of a background write, reported by the next save or flush.
+     * The change being saved is queued before the failure is reported,
+     * so the file never falls behind the task list for good.
+     */
+    private CherishException backgroundFailure;
+
+    private Thread shutdownHook;
+
     /**
      * Constructs a Storage object with the given file path.
+     * Every change rewrites the whole file.
      *
      * @param filePath Path to the file used for persistence.
      */
     public Storage(String filePath) {
+        this(filePath, StorageMode.SNAPSHOT);
+    }
+
+    /**
+     * Constructs a Storage object with the given file path and persistence mode.
+     *
+     * @param filePath Path to the file used for persistence.
+     * @param mode How changes to the task list are persisted.
+     */
+    public Storage(String filePath, StorageMode mode) {
         assert filePath != null && !filePath.trim().isEmpty()
                 : "Storage filePath must not be null or empty";
+        assert mode != null : "Storage mode must not be null";
         this.filePath = filePath;
+        this.mode = mode;
+        this.journal = new Journal(Paths.get(filePath + JOURNAL_SUFFIX));
+        this.slots = new SlotFile(Paths.get(filePath));
+    }
+
+    /**
+     * Sets the journal size at which the journal is sealed and compacted into a new snapshot.
+     * Compaction starts as soon as either threshold is reached.
+     *
+     * @param maxRecords Number of journal records that triggers a compaction.
+     * @param maxBytes Journal size in bytes that triggers a compaction.
+     */
+    public void setCompactionThresholds(int maxRecords, long maxBytes) {
+        assert maxRecords > 0 && maxBytes > 0 : "Compaction thresholds must be positive";
+        this.compactionRecords = maxRecords;
+        this.compactionBytes = maxBytes;
+    }
+
+    /**
+     * Sets when written data is forced to disk. Defaults to {@link Durability#NONE}.
+     *
+     * @param durability The durability mode to use for all later writes.
+     */
+    public void setDurability(Durability durability) {
+        assert durability != null : "Durability must not be null";
+        this.durability = durability;
+    }
+
+    /**
+     * Sets the format later snapshots are written in. Defaults to {@link SnapshotFormat#TEXT}.
+     * The existing file keeps its format until the next snapshot is written;
+     * use {@link #convertSnapshot(SnapshotFormat)} to convert it right away.
+     * Slotted mode always writes the binary format.
+     *
+     * @param format The format to write snapshots in.
+     */
+    public void setSnapshotFormat(SnapshotFormat format) {
+        assert format != null : "Snapshot format must not be null";
+        this.snapshotFormat = format;
+    }
+
+    /**
+     * Converts the storage file to the given format and writes later snapshots in it.
+     * Tasks are streamed one at a time, so the whole list is never held in memory.
+     * The converted file replaces the original atomically, and any journal stays valid.
+     *
+     * @param format The format to convert to.
+     * @throws CherishException If the file cannot be read, converted or replaced.
+     */
+    public void convertSnapshot(SnapshotFormat format) throws CherishException {
+        if (mode == StorageMode.SLOTTED && format != SnapshotFormat.BINARY) {
+            throw new CherishException("Slotted storage only supports the binary format.");
+        }
+        setSnapshotFormat(format);
+        flush();
+        awaitCompaction();
+        recoverInterruptedSnapshot();
+
+        Path file = Paths.get(filePath);
+        boolean isBinary = Files.exists(file) && BinaryTaskFormat.isBinary(file);
+        if (!Files.exists(file) || isBinary == (format == SnapshotFormat.BINARY)) {
+            return;
+        }
+
+        Path temp = Paths.get(filePath + TEMP_SUFFIX);
+        if (isBinary) {
+            BinaryTaskFormat.convertBinaryToText(file, temp);
+        } else {
+            BinaryTaskFormat.convertTextToBinary(file, temp);
+        }
+
+        try {
+            if (durability != Durability.NONE) {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new CherishException("Failed to convert storage file.");
+        }
+
+        if (durability != Durability.NONE) {
+            forceDirectory(file);
+        }
+    }
+
+    /**
+     * Enables or disables the startup cache, a binary copy of a text storage file
+     * kept next to it. While the size, modification time and checksum of the text file
+     * still match the cache, load reads the cache instead of parsing the text.
+     * Otherwise the text is parsed and the cache rebuilt. Disabled by default.
+     *
+     * @param isEnabled Whether load should use and maintain the cache.
+     */
+    public void setStartupCache(boolean isEnabled) {
+        this.snapshotCache = isEnabled
+                ? new SnapshotCache(Paths.get(filePath), Paths.get(filePath + CACHE_SUFFIX))
+                : null;
+    }
+
+    /**
+     * Returns a one-line summary of how long storage writes took so far,
+     * for comparing durability modes on a given machine.
+     *
+     * @return Number of writes and their average and maximum duration.
+     */
+    public String getSaveLatencySummary() {
+        return saveLatency.getCount() + " writes with durability " + durability
+                + ": average " + saveLatency.getAverageMicros() + " us"
+                + ", max " + saveLatency.getMaxMicros() + " us";
+    }
+
+    /**
+     * Enables write-behind: saves return as soon as the change is queued in memory,
+     * and a single background writer persists the queue after the given interval.
+     * Changes arriving within one interval are written together: journal records
+     * in a single append, and full snapshots coalesced so only the latest is written.
+     *
+     * Durability: a change is on disk only after the interval has elapsed or
+     * {@link #flush()} has returned. A crash or forced kill loses at most the changes
+     * queued during the last interval, never the data written before them.
+     * A normal JVM shutdown flushes the queue through a shutdown hook.
+     * A failed background write is reported by the next save or flush call.
+     *
+     * Has no effect in slotted mode, where each change is already a single small write.
+     *
+     * @param intervalMillis Delay before queued changes are written, or 0 to write synchronously.
+     */
+    public void setWriteBehind(long intervalMillis) {
+        assert intervalMillis >= 0 : "Write-behind interval must not be negative";
+        if (mode == StorageMode.SLOTTED) {
+            return;
+        }
+        this.writeBehindMillis = intervalMillis;
+
+        if (intervalMillis > 0 && shutdownHook == null) {
+            shutdownHook = new Thread(this::flushQuietly, "cherish-storage-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
     }
 
     /**
@@ -51,6 +286,9 @@ public class Storage {
      *
      * If the data directory does not exist, it will be created.
      * If the storage file does not exist, an empty task list is returned.
+     * In journal mode, any sealed journal and then the current journal are replayed
+     * over the tasks read from the storage file.
+     * In slotted mode, a text storage file is converted to the binary format first.
      *
      * @return An array of loaded Task objects.
      * @throws CherishException If the directory cannot be created,
@@ -62,23 +300,23 @@ public class Storage {
         Path file = Paths.get(filePath);
 
         ensureDataDirectoryExists(dataDir);
+        flush();
 
-        if (!Files.exists(file)) {
-            return new Task[0];
-        }
+        awaitCompaction();
+        recoverInterruptedSnapshot();
 
         ArrayList<Task> tasks = new ArrayList<>();
 
-        try (BufferedReader reader = Files.newBufferedReader(file)) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-                tasks.add(parseTask(line));
-            }
-        } catch (IOException e) {
-            throw new CherishException("Failed to read tasks from storage file.");
+        if (Files.exists(file) && mode == StorageMode.SLOTTED) {
+            readSlots(file, tasks);
+        } else if (Files.exists(file)) {
+            readCachedSnapshot(file, tasks);
+        }
+
+        if (mode == StorageMode.JOURNAL) {
+            new Journal(sealedJournalPath()).replay(tasks);
+            journal.replay(tasks);
+            compactIfNeeded();
         }
 
         return tasks.toArray(new Task[0]);
@@ -86,20 +324,280 @@ public class Storage {
 
     /**
      * Saves all tasks to the storage file, overwriting existing content.
+     * In journal mode, the journal is cleared once the new snapshot is in place,
+     * after waiting for any running compaction to finish.
      *
      * @param tasks Array of Task objects to be saved.
      * @throws CherishException If writing to the file fails.
      */
     public void save(Task[] tasks) throws CherishException {
-        Path file = Paths.get(filePath);
+        if (writeBehindMillis > 0) {
+            synchronized (queueLock) {
+                queuedSnapshot = tasks;
+                queuedRecords = new ArrayList<>();
+                scheduleFlush();
+                throwBackgroundFailure();
+            }
+            return;
+        }
+
+        awaitCompaction();
+        writeFullSnapshot(tasks);
+    }
+
+    /**
+     * Persists a task that was just appended to the end of the list.
+     *
+     * @param tasks The task list after the change.
+     * @param task The added task.
+     * @throws CherishException If writing to storage fails.
+     */
+    public void saveAdded(TaskList tasks, Task task) throws CherishException {
+        switch (mode) {
+        case JOURNAL:
+            appendRecord(Journal.addRecord(task));
+            break;
+
+        case SLOTTED:
+            appendSlot(task);
+            break;
+
+        default:
+            save(tasks.toArray());
+            break;
+        }
+    }
 
-        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
-            for (Task task : tasks) {
-                writer.write(task.toFileString());
-                writer.newLine();
+    /**
+     * Persists a task that was just inserted at the given position.
+     *
+     * @param tasks The task list after the change.
+     * @param index Zero-based position of the inserted task.
+     * @param task The inserted task.
+     * @throws CherishException If writing to storage fails.
+     */
+    public void saveInserted(TaskList tasks, int index, Task task) throws CherishException {
+        switch (mode) {
+        case JOURNAL:
+            appendRecord(Journal.insertRecord(index, task));
+            break;
+
+        case SLOTTED:
+            if (index == tasks.size() - 1) {
+                appendSlot(task);
+            } else {
+                // Records are in list order, so an insert anywhere else moves every later record.
+                save(tasks.toArray());
             }
-        } catch (IOException e) {
+            break;
+
+        default:
+            save(tasks.toArray());
+            break;
+        }
+    }
+
+    /**
+     * Persists the removal of the task that was at the given position.
+     *
+     * @param tasks The task list after the change.
+     * @param index Zero-based position the task was removed from.
+     * @throws CherishException If writing to storage fails.
+     */
+    public void saveRemoved(TaskList tasks, int index) throws CherishException {
+        switch (mode) {
+        case JOURNAL:
+            appendRecord(Journal.removeRecord(index));
+            break;
+
+        case SLOTTED: {
+            long start = System.nanoTime();
+            getSlots().remove(index, durability == Durability.ALWAYS);
+            saveLatency.recordSince(start);
+            if (slots.shouldReclaim()) {
+                save(tasks.toArray());
+            }
+            break;
+        }
+
+        default:
+            save(tasks.toArray());
+            break;
+        }
+    }
+
+    /**
+     * Persists a change of completion status of the task at the given position.
+     *
+     * @param tasks The task list after the change.
+     * @param index Zero-based position of the changed task.
+     * @param isDone The new completion status.
+     * @throws CherishException If writing to storage fails.
+     */
+    public void saveMarked(TaskList tasks, int index, boolean isDone) throws CherishException {
+        switch (mode) {
+        case JOURNAL:
+            appendRecord(Journal.markRecord(index, isDone));
+            break;
+
+        case SLOTTED: {
+            long start = System.nanoTime();
+            getSlots().mark(index, isDone, durability == Durability.ALWAYS);
+            saveLatency.recordSince(start);
+            break;
+        }
+
+        default:
+            save(tasks.toArray());
+            break;
+        }
+    }
+
+    /**
+     * Persists a change of completion status of several tasks with a single write.
+     *
+     * @param tasks The task list after the change.
+     * @param indexes Zero-based positions of the changed tasks, in ascending order.
+     * @param isDone The new completion status.
+     * @throws CherishException If writing to storage fails.
+     */
+    public void saveMarked(TaskList tasks, int[] indexes, boolean isDone) throws CherishException {
+        switch (mode) {
+        case JOURNAL: {
+            List<String> records = new ArrayList<>(indexes.length);
+            for (int index : indexes) {
+                records.add(Journal.markRecord(index, isDone));
+            }
+            appendRecords(records);
+            break;
+        }
+
+        case SLOTTED: {
+            long start = System.nanoTime();
+            SlotFile slotFile = getSlots();
+            for (int i = 0; i < indexes.length; i++) {
+                slotFile.mark(indexes[i], isDone, durability == Durability.ALWAYS && i == indexes.length - 1);
+            }
+            saveLatency.recordSince(start);
+            break;
+        }
+
+        default:
+            save(tasks.toArray());
+            break;
+        }
+    }
+
+    /**
+     * Persists the removal of several tasks with a single write.
+     *
+     * @param tasks The task list after the change.
+     * @param indexes Zero-based positions the tasks were removed from, in ascending order without duplicates.
+     * @throws CherishException If writing to storage fails.
+     */
+    public void saveRemoved(TaskList tasks, int[] indexes) throws CherishException {
+        switch (mode) {
+        case JOURNAL: {
+            // Replayed one at a time, so remove from the back to keep the earlier positions valid.
+            List<String> records = new ArrayList<>(indexes.length);
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                records.add(Journal.removeRecord(indexes[i]));
+            }
+            appendRecords(records);
+            break;
+        }
+
+        case SLOTTED: {
+            long start = System.nanoTime();
+            getSlots().removeAll(indexes, durability == Durability.ALWAYS);
+            saveLatency.recordSince(start);
+            if (slots.shouldReclaim()) {
+                save(tasks.toArray());
+            }
+            break;
+        }
+
+        default:
+            save(tasks.toArray());
+            break;
+        }
+    }
+
+    /**
+     * Writes every queued change to disk and waits until it is done.
+     * With {@link Durability#BATCH} and synchronous saves, this is also when
+     * journal records and slot writes are forced to disk.
+     *
+     * @throws CherishException If a queued change could not be written.
+     */
+    public void flush() throws CherishException {
+        if (writeBehindMillis == 0 && durability == Durability.BATCH && mode == StorageMode.JOURNAL) {
+            journal.force();
+        }
+        if (durability == Durability.BATCH && mode == StorageMode.SLOTTED) {
+            slots.force();
+        }
+        if (backgroundWriter == null) {
+            return;
+        }
+
+        try {
+            backgroundWriter.submit(this::writeQueued).get();
+        } catch (ExecutionException e) {
             throw new CherishException("Failed to save tasks to storage file.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CherishException("Interrupted while saving tasks to storage file.");
+        }
+
+        synchronized (queueLock) {
+            throwBackgroundFailure();
+        }
+    }
+
+    /**
+     * Flushes queued changes and stops the background writer.
+     * The storage can still be used afterwards; a new writer is started on demand.
+     *
+     * @throws CherishException If a queued change could not be written.
+     */
+    public void close() throws CherishException {
+        try {
+            flush();
+            awaitCompaction();
+        } finally {
+            synchronized (this) {
+                if (backgroundWriter != null) {
+                    backgroundWriter.shutdown();
+                    backgroundWriter = null;
+                }
+            }
+            if (shutdownHook != null) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException e) {
+                    // Already shutting down; the hook is running or has run.
+                }
+                shutdownHook = null;
+            }
+        }
+    }
+
+    /**
+     * Blocks until the compaction currently running in the background, if any, has finished.
+     * A failed compaction is not reported here; its sealed journal is kept and retried later.
+     */
+    void awaitCompaction() {
+        Future<?> compaction = pendingCompaction;
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (ExecutionException e) {
+            // The sealed journal is still in place and stays authoritative.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
 
@@ -120,77 +618,395 @@ public class Storage {
     }
 
     /**
-     * Parses a single line from the storage file into a Task object.
-     *
-     * Expected formats:
-     * Todo:     T | 0/1 | description
-     * Deadline: D | 0/1 | description | yyyy-MM-dd HHmm
-     * Event:    E | 0/1 | description | yyyy-MM-dd HHmm | yyyy-MM-dd HHmm
-     *
-     * @param line A line from the storage file.
-     * @return The parsed Task object.
-     * @throws CherishException If the data format is invalid or corrupted.
+     * Reads the snapshot in whichever format it was written.
+     * Text snapshots are read into a buffer, or line by line if larger than {@link Integer#MAX_VALUE} bytes.
      */
-    private Task parseTask(String line) throws CherishException {
-        String[] parts = line.split(" \\| ", -1);
+    private void readSnapshot(Path file, ArrayList<Task> tasks) throws CherishException {
+        if (BinaryTaskFormat.isBinary(file)) {
+            BinaryTaskFormat.read(file, tasks, null);
+            return;
+        }
 
-        if (parts.length < 3) {
-            throw new CherishException("Corrupted data format in storage file.");
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
         }
 
-        String typeSymbol = parts[0];
-        boolean isDone = "1".equals(parts[1]);
-        String description = parts[2];
+        if (size <= Integer.MAX_VALUE) {
+            tasks.ensureCapacity(tasks.size() + (int) (size / ESTIMATED_LINE_BYTES));
+            TextTaskReader.read(file, tasks);
+        } else {
+            readSnapshotLines(file, tasks);
+        }
+    }
 
-        Task task;
+    /**
+     * Reads the snapshot from the startup cache when it is enabled and still valid,
+     * and otherwise parses the file and rebuilds the cache.
+     */
+    private void readCachedSnapshot(Path file, ArrayList<Task> tasks) throws CherishException {
+        if (snapshotCache == null || BinaryTaskFormat.isBinary(file)) {
+            readSnapshot(file, tasks);
+            return;
+        }
+        if (snapshotCache.read(tasks)) {
+            return;
+        }
 
+        readSnapshot(file, tasks);
         try {
-            TaskType type = TaskType.fromSymbol(typeSymbol);
-
-            switch (type) {
-            case TODO:
-                task = new Todo(description);
-                break;
+            snapshotCache.write(tasks);
+        } catch (CherishException e) {
+            // The cache only speeds up the next start; the tasks were loaded all the same.
+        }
+    }
 
-            case DEADLINE:
-                if (parts.length < 4) {
-                    throw new CherishException("Corrupted deadline data.");
+    private void readSnapshotLines(Path file, ArrayList<Task> tasks) throws CherishException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
                 }
-                LocalDateTime by = parseDateTime(parts[3]);
-                task = new Deadline(description, by);
-                break;
+                tasks.add(TaskLineParser.parse(line));
+            }
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
+        }
+    }
 
-            case EVENT:
-                if (parts.length < 5) {
-                    throw new CherishException("Corrupted event data.");
+    /**
+     * Writes all tasks to the given file in the snapshot format,
+     * forcing them to disk unless durability is NONE.
+     * In slotted mode, the record offsets are indexed along the way.
+     */
+    private void writeSnapshot(Path file, Task[] tasks) throws CherishException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (mode == StorageMode.SLOTTED) {
+                BinaryTaskFormat.write(Channels.newOutputStream(channel), tasks, slots);
+            } else if (snapshotFormat == SnapshotFormat.BINARY) {
+                BinaryTaskFormat.write(Channels.newOutputStream(channel), tasks, null);
+            } else {
+                BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+                for (Task task : tasks) {
+                    writer.write(TaskLineParser.format(task));
+                    writer.newLine();
                 }
-                LocalDateTime from = parseDateTime(parts[3]);
-                LocalDateTime to = parseDateTime(parts[4]);
-                task = new Event(description, from, to);
-                break;
+                writer.flush();
+            }
+            if (durability != Durability.NONE) {
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            throw new CherishException("Failed to save tasks to storage file.");
+        }
+    }
 
-            default:
-                throw new CherishException("Unknown task type in storage file.");
+    /**
+     * Writes all tasks as the new snapshot, superseding the journal in journal mode.
+     * Must not run concurrently with a compaction.
+     */
+    private void writeFullSnapshot(Task[] tasks) throws CherishException {
+        if (mode == StorageMode.SLOTTED) {
+            slots.clear();
+            try {
+                replaceSnapshot(tasks, null);
+            } catch (CherishException e) {
+                // The offsets may describe a file that never replaced the old one.
+                slots.clear();
+                throw e;
             }
-        } catch (DateTimeParseException e) {
-            throw new CherishException("Invalid date/time format in storage file.");
+            return;
+        }
+        if (mode != StorageMode.JOURNAL) {
+            replaceSnapshot(tasks, null);
+            return;
+        }
+
+        if (Files.exists(sealedJournalPath())) {
+            // A failed compaction left a sealed journal behind; fold it in first
+            // so the new snapshot only ever supersedes a single journal file.
+            compactSealedJournal();
+        }
+        replaceSnapshot(tasks, journal.getPath());
+        journal.delete();
+    }
+
+    /**
+     * Reads a binary storage file and indexes its records, converting a text file first.
+     * Rewrites the file if removed records take up most of it or it is in an older version.
+     */
+    private void readSlots(Path file, ArrayList<Task> tasks) throws CherishException {
+        if (!BinaryTaskFormat.isBinary(file)) {
+            convertSnapshot(SnapshotFormat.BINARY);
         }
 
-        if (isDone) {
-            task.markAsDone();
+        slots.clear();
+        BinaryTaskFormat.read(file, tasks, slots);
+        // Records are appended in the current version, so an older file is rewritten first.
+        if (slots.shouldReclaim() || !BinaryTaskFormat.isCurrentVersion(file)) {
+            writeFullSnapshot(tasks.toArray(new Task[0]));
         }
+    }
+
+    /**
+     * Returns the slot index, reading the storage file or creating an empty one if needed.
+     */
+    private SlotFile getSlots() throws CherishException {
+        if (!slots.isIndexed()) {
+            Path file = Paths.get(filePath);
+            if (Files.exists(file)) {
+                readSlots(file, new ArrayList<>());
+            } else {
+                writeFullSnapshot(new Task[0]);
+            }
+        }
+        return slots;
+    }
 
-        return task;
+    private void appendSlot(Task task) throws CherishException {
+        long start = System.nanoTime();
+        getSlots().append(task, durability == Durability.ALWAYS);
+        saveLatency.recordSince(start);
     }
 
     /**
-     * Parses a date-time string using the storage formatter.
+     * Writes a journal record now, or queues it for the background writer.
+     */
+    private void appendRecord(String record) throws CherishException {
+        appendRecords(List.of(record));
+    }
+
+    /**
+     * Appends records that belong to one change, so that they are written together.
+     */
+    private void appendRecords(List<String> records) throws CherishException {
+        if (writeBehindMillis > 0) {
+            synchronized (queueLock) {
+                queuedRecords.addAll(records);
+                scheduleFlush();
+                throwBackgroundFailure();
+            }
+            return;
+        }
+
+        appendToJournal(records);
+        compactIfNeeded();
+    }
+
+    /**
+     * Appends records to the journal, forcing them to disk as the durability mode requires.
+     * Records written by the background writer form one batch.
+     */
+    private void appendToJournal(List<String> records) throws CherishException {
+        boolean isBatch = writeBehindMillis > 0;
+        boolean shouldForce = durability == Durability.ALWAYS
+                || (durability == Durability.BATCH && isBatch);
+
+        long start = System.nanoTime();
+        journal.append(records, shouldForce);
+        saveLatency.recordSince(start);
+    }
+
+    /**
+     * Schedules the background writer to write the queue, unless it is already scheduled.
+     * Must be called while holding {@link #queueLock}.
+     */
+    private void scheduleFlush() {
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            getBackgroundWriter().schedule(this::writeQueued, writeBehindMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes everything queued so far. Runs on the background writer only.
+     * On failure, the unwritten changes go back to the front of the queue so the next
+     * flush retries them, unless a newer full snapshot has superseded them meanwhile.
+     */
+    private void writeQueued() {
+        Task[] snapshot;
+        List<String> records;
+        synchronized (queueLock) {
+            snapshot = queuedSnapshot;
+            records = queuedRecords;
+            queuedSnapshot = null;
+            queuedRecords = new ArrayList<>();
+            isFlushScheduled = false;
+        }
+
+        try {
+            if (snapshot != null) {
+                writeFullSnapshot(snapshot);
+                snapshot = null;
+            }
+            if (!records.isEmpty()) {
+                appendToJournal(records);
+                compactIfNeeded();
+            }
+        } catch (CherishException e) {
+            synchronized (queueLock) {
+                if (queuedSnapshot == null) {
+                    queuedSnapshot = snapshot;
+                    records.addAll(queuedRecords);
+                    queuedRecords = records;
+                }
+                backgroundFailure = e;
+            }
+        }
+    }
+
+    /**
+     * Rethrows and clears the last background write failure, if any.
+     * Must be called while holding {@link #queueLock}.
+     */
+    private void throwBackgroundFailure() throws CherishException {
+        if (backgroundFailure != null) {
+            CherishException failure = backgroundFailure;
+            backgroundFailure = null;
+            throw failure;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (CherishException e) {
+            // Nothing left to report to during shutdown.
+        }
+    }
+
+    private synchronized ScheduledExecutorService getBackgroundWriter() {
+        if (backgroundWriter == null) {
+            backgroundWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cherish-storage-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return backgroundWriter;
+    }
+
+    /**
+     * Replaces the snapshot and removes the journal it supersedes, if any.
      *
-     * @param dateTimeStr Date-time string from file.
-     * @return Parsed LocalDateTime.
-     * @throws DateTimeParseException If the format is invalid.
+     * Every step is a single atomic file operation, so a crash at any point leaves files
+     * that {@link #recoverInterruptedSnapshot()} can resolve without losing or replaying twice:
+     * the new snapshot is written to a temporary file, the journal is renamed to mark it
+     * as applied, the temporary file replaces the snapshot, and the applied journal is deleted.
      */
-    private LocalDateTime parseDateTime(String dateTimeStr) {
-        return LocalDateTime.parse(dateTimeStr, SAVE_FORMATTER);
+    private void replaceSnapshot(Task[] tasks, Path supersededJournal) throws CherishException {
+        Path file = Paths.get(filePath);
+        Path temp = Paths.get(filePath + TEMP_SUFFIX);
+        Path applied = Paths.get(filePath + APPLIED_JOURNAL_SUFFIX);
+
+        long start = System.nanoTime();
+        writeSnapshot(temp, tasks);
+
+        try {
+            if (supersededJournal != null && Files.exists(supersededJournal)) {
+                Files.move(supersededJournal, applied, StandardCopyOption.ATOMIC_MOVE);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(applied);
+        } catch (IOException e) {
+            throw new CherishException("Failed to save tasks to storage file.");
+        }
+
+        if (durability != Durability.NONE) {
+            forceDirectory(file);
+        }
+        saveLatency.recordSince(start);
+    }
+
+    /**
+     * Forces the renames in the directory of the given file to disk, where the platform allows it.
+     */
+    private static void forceDirectory(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms cannot open directories; the rename itself is still atomic.
+        }
+    }
+
+    /**
+     * Finishes or rolls back a snapshot replacement that was interrupted by a crash.
+     */
+    private void recoverInterruptedSnapshot() throws CherishException {
+        Path file = Paths.get(filePath);
+        Path temp = Paths.get(filePath + TEMP_SUFFIX);
+        Path applied = Paths.get(filePath + APPLIED_JOURNAL_SUFFIX);
+
+        try {
+            if (Files.exists(applied)) {
+                // The journal was already folded into the temporary snapshot.
+                if (Files.exists(temp)) {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                }
+                Files.delete(applied);
+            } else {
+                // The temporary snapshot may be incomplete; the journal is still authoritative.
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new CherishException("Failed to recover storage file after an interrupted save.");
+        }
+    }
+
+    private Path sealedJournalPath() {
+        return Paths.get(filePath + SEALED_JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Seals the journal and schedules a background compaction once it reaches a threshold.
+     * Sealing is a single rename, so the caller never waits for the compaction itself.
+     * While a sealed journal is still waiting to be compacted, new records keep going
+     * to the current journal.
+     */
+    private void compactIfNeeded() throws CherishException {
+        Future<?> compaction = pendingCompaction;
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+
+        boolean isOverThreshold = journal.getRecordCount() >= compactionRecords
+                || journal.getByteCount() >= compactionBytes;
+        boolean hasSealedJournal = Files.exists(sealedJournalPath());
+
+        if (!hasSealedJournal && !isOverThreshold) {
+            return;
+        }
+        if (!hasSealedJournal) {
+            journal.moveTo(sealedJournalPath());
+        }
+
+        pendingCompaction = getBackgroundWriter().submit(() -> {
+            compactSealedJournal();
+            return null;
+        });
+    }
+
+    /**
+     * Folds the sealed journal into a new snapshot and removes it.
+     * Only the snapshot and the sealed journal are touched, never the current journal,
+     * so this can run while commands keep appending.
+     */
+    private void compactSealedJournal() throws CherishException {
+        if (!Files.exists(sealedJournalPath())) {
+            return;
+        }
+
+        ArrayList<Task> tasks = new ArrayList<>();
+        Path file = Paths.get(filePath);
+        if (Files.exists(file)) {
+            readSnapshot(file, tasks);
+        }
+        new Journal(sealedJournalPath()).replay(tasks);
+        replaceSnapshot(tasks.toArray(new Task[0]), sealedJournalPath());
     }
 }
@@ -0,0 +1,18 @@
+package cherish.storage;
+
+/**
+ * Enum representing how {@link Storage} persists changes to the task list.
+ */
+public enum StorageMode {
+    /** Every change rewrites the whole storage file. */
+    SNAPSHOT,
+
+    /** Every change appends one record to a journal that is replayed over the last snapshot on load. */
+    JOURNAL,
+
+    /**
+     * Every task has a fixed record in a binary file: marking rewrites one byte in place,
+     * removing leaves a tombstone, and adding appends a record.
+     */
+    SLOTTED
+}
@@ -0,0 +1,153 @@
+package cherish.storage;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import cherish.CherishException;
+import cherish.model.Deadline;
+import cherish.model.Event;
+import cherish.model.Task;
+import cherish.model.TaskType;
+import cherish.model.Todo;
+
+/**
+ * Converts between Task objects and single lines of the pipe-delimited storage format.
+ * Shared by the snapshot loader and writer and the journal.
+ */
+final class TaskLineParser {
+
+    /** Date-time format used for saving and loading task data. */
+    private static final DateTimeFormatter SAVE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    /** Marks the optional ID field at the start of a line. */
+    private static final String ID_PREFIX = "#";
+
+    private static final String SEPARATOR = " | ";
+
+    private TaskLineParser() {
+    }
+
+    /**
+     * Formats a task as a line of the storage file, the inverse of {@link #parse(String)}.
+     * The line starts with the task's ID if it has one, e.g. {@code #12 | T | 0 | read book}.
+     *
+     * @param task The task to format.
+     * @return The line, without a line terminator.
+     */
+    static String format(Task task) {
+        if (task.getId() == 0) {
+            return task.toFileString();
+        }
+        return ID_PREFIX + task.getId() + SEPARATOR + task.toFileString();
+    }
+
+    /**
+     * Parses a single line from the storage file into a Task object.
+     *
+     * Expected formats:
+     * Todo:     T | 0/1 | description
+     * Deadline: D | 0/1 | description | yyyy-MM-dd HHmm
+     * Event:    E | 0/1 | description | yyyy-MM-dd HHmm | yyyy-MM-dd HHmm
+     * Any of them may start with the task's ID, e.g. {@code #12 | }. Tasks without one
+     * are given an ID by the task list.
+     *
+     * @param line A line from the storage file.
+     * @return The parsed Task object.
+     * @throws CherishException If the data format is invalid or corrupted.
+     */
+    static Task parse(String line) throws CherishException {
+        if (!line.startsWith(ID_PREFIX)) {
+            return parseRecord(line);
+        }
+
+        int separator = line.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new CherishException("Corrupted data format in storage file.");
+        }
+        long id;
+        try {
+            id = Long.parseLong(line.substring(ID_PREFIX.length(), separator));
+        } catch (NumberFormatException e) {
+            throw new CherishException("Invalid task ID in storage file.");
+        }
+        if (id <= 0) {
+            throw new CherishException("Invalid task ID in storage file.");
+        }
+
+        Task task = parseRecord(line.substring(separator + SEPARATOR.length()));
+        task.setId(id);
+        return task;
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    /**
+     * Parses a line without the ID field.
+     */
+    private static Task parseRecord(String line) throws CherishException {
+        String[] parts = line.split(" \\| ", -1);
+
+        if (parts.length < 3) {
+            throw new CherishException("Corrupted data format in storage file.");
+        }
+
+        String typeSymbol = parts[0];
+        boolean isDone = "1".equals(parts[1]);
+        String description = parts[2];
+
+        Task task;
+
+        try {
+            TaskType type = TaskType.fromSymbol(typeSymbol);
+
+            switch (type) {
+            case TODO:
+                task = new Todo(description);
+                break;
+
+            case DEADLINE:
+                if (parts.length < 4) {
+                    throw new CherishException("Corrupted deadline data.");
+                }
+                LocalDateTime by = parseDateTime(parts[3]);
+                task = new Deadline(description, by);
+                break;
+
+            case EVENT:
+                if (parts.length < 5) {
+                    throw new CherishException("Corrupted event data.");
+                }
+                LocalDateTime from = parseDateTime(parts[3]);
+                LocalDateTime to = parseDateTime(parts[4]);
+                task = new Event(description, from, to);
+                break;
+
+            default:
+                throw new CherishException("Unknown task type in storage file.");
+            }
+        } catch (DateTimeParseException e) {
+            throw new CherishException("Invalid date/time format in storage file.");
+        }
+
+        if (isDone) {
+            task.markAsDone();
+        }
+
+        return task;
+    }
+
+    /**
+     * Parses a date-time string using the storage formatter.
+     *
+     * @param dateTimeStr Date-time string from file.
+     * @return Parsed LocalDateTime.
+     * @throws DateTimeParseException If the format is invalid.
+     */
+    private static LocalDateTime parseDateTime(String dateTimeStr) {
+        return LocalDateTime.parse(dateTimeStr, SAVE_FORMATTER);
+    }
+}
@@ -0,0 +1,385 @@
+package cherish.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import cherish.CherishException;
+import cherish.model.Deadline;
+import cherish.model.Event;
+import cherish.model.Task;
+import cherish.model.Todo;
+
+/**
+ * Reads the pipe-delimited storage file into a heap buffer and scans it byte by byte.
+ *
+ * The file is read rather than memory-mapped: a mapping stays open until it is garbage collected,
+ * and on Windows an open mapping stops {@link Storage} from replacing the file afterwards.
+ * The buffer is on the heap, so it is freed like any other array and does not count against
+ * the direct memory limit.
+ *
+ * Records in the canonical form written by {@link TaskLineParser#format(Task)} are decoded directly,
+ * without splitting lines into strings or going through a date formatter.
+ * Any other line is handed to {@link TaskLineParser}, so results and errors are exactly
+ * the same as reading the file line by line.
+ *
+ * Large files are split into newline-aligned chunks that are parsed in parallel
+ * on the common fork-join pool, then merged back in file order.
+ */
+final class TextTaskReader {
+
+    /** File size in bytes from which parsing is split across threads. */
+    static final int PARALLEL_THRESHOLD_BYTES = 1024 * 1024;
+
+    /** Smallest chunk handed to a single thread. */
+    private static final int MIN_CHUNK_BYTES = 256 * 1024;
+
+    /** Number of chunks per thread, so that uneven chunks still keep every thread busy. */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** Length of a yyyy-MM-dd HHmm date-time field. */
+    private static final int DATE_TIME_LENGTH = 15;
+
+    /** Most digits of an ID decoded directly; longer IDs could overflow and go through the parser. */
+    private static final int MAX_ID_DIGITS = 18;
+
+    private TextTaskReader() {
+    }
+
+    /**
+     * Reads every task in the given file.
+     *
+     * @param file The storage file, at most {@link Integer#MAX_VALUE} bytes long.
+     * @param tasks List the tasks are appended to, in file order.
+     * @throws CherishException If the file cannot be read or its contents are corrupted.
+     */
+    static void read(Path file, List<Task> tasks) throws CherishException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            assert size <= Integer.MAX_VALUE : "File too large to read into a buffer: " + size;
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            int length = 0;
+            while (length < size) {
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    break; // The file shrank while being read
+                }
+                length += read;
+            }
+
+            if (length < PARALLEL_THRESHOLD_BYTES) {
+                parse(buffer, 0, length, tasks);
+            } else {
+                parseParallel(buffer, length, tasks);
+            }
+        } catch (IOException e) {
+            throw new CherishException("Failed to read tasks from storage file.");
+        }
+    }
+
+    /**
+     * Parses the whole buffer in newline-aligned chunks on the common fork-join pool.
+     * Falls back to a serial parse if the pool has a single thread.
+     *
+     * @param buffer Buffer holding the file contents. Only absolute reads are used.
+     * @param size Number of bytes in the buffer.
+     * @param tasks List the tasks are appended to, in file order.
+     * @throws CherishException If a line is corrupted; the first corrupted line in file order is reported.
+     */
+    static void parseParallel(ByteBuffer buffer, int size, List<Task> tasks) throws CherishException {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int chunkCount = Math.min(pool.getParallelism() * CHUNKS_PER_THREAD, size / MIN_CHUNK_BYTES);
+        if (chunkCount < 2) {
+            parse(buffer, 0, size, tasks);
+            return;
+        }
+
+        List<ForkJoinTask<List<Task>>> chunks = new ArrayList<>(chunkCount);
+        int chunkStart = 0;
+        for (int i = 1; i <= chunkCount && chunkStart < size; i++) {
+            int chunkEnd = i == chunkCount ? size : nextLineStart(buffer, (int) ((long) size * i / chunkCount), size);
+            if (chunkEnd <= chunkStart) {
+                continue;
+            }
+            int from = chunkStart;
+            chunks.add(pool.submit(() -> {
+                List<Task> parsed = new ArrayList<>();
+                parse(buffer, from, chunkEnd, parsed);
+                return parsed;
+            }));
+            chunkStart = chunkEnd;
+        }
+
+        try {
+            for (ForkJoinTask<List<Task>> chunk : chunks) {
+                tasks.addAll(chunk.get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CherishException) {
+                throw (CherishException) e.getCause();
+            }
+            throw new CherishException("Failed to read tasks from storage file.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CherishException("Interrupted while reading tasks from storage file.");
+        } finally {
+            for (ForkJoinTask<List<Task>> chunk : chunks) {
+                chunk.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Parses the lines between two offsets of the buffer.
+     * Lines end with \n, \r or \r\n; blank lines are skipped.
+     *
+     * @param buffer Buffer holding the file contents. Only absolute reads are used.
+     * @param from Offset of the first byte of the first line.
+     * @param to Offset just past the last byte to parse.
+     * @param tasks List the tasks are appended to, in file order.
+     * @throws CherishException If a line is corrupted or not valid UTF-8.
+     */
+    static void parse(ByteBuffer buffer, int from, int to, List<Task> tasks) throws CherishException {
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = lineStart;
+            byte b = 0;
+            while (lineEnd < to && (b = buffer.get(lineEnd)) != '\n' && b != '\r') {
+                lineEnd++;
+            }
+
+            if (!isBlank(buffer, lineStart, lineEnd)) {
+                tasks.add(parseLine(buffer, lineStart, lineEnd));
+            }
+
+            lineStart = lineEnd + 1;
+            if (b == '\r' && lineStart < to && buffer.get(lineStart) == '\n') {
+                lineStart++;
+            }
+        }
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    /**
+     * Returns the offset just past the first \n at or after from, or end if there is none.
+     * Splitting only after \n keeps \r\n pairs and every line within a single chunk.
+     */
+    private static int nextLineStart(ByteBuffer buffer, int from, int end) {
+        for (int i = from; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    private static Task parseLine(ByteBuffer buffer, int start, int end) throws CherishException {
+        Task task = null;
+        if (buffer.get(start) != '#') {
+            task = parseCanonical(buffer, start, end);
+        } else {
+            int idEnd = indexOfSeparator(buffer, start + 1, end);
+            long id = parseId(buffer, start + 1, idEnd);
+            if (id > 0) {
+                task = parseCanonical(buffer, idEnd + 3, end);
+            }
+            if (task != null) {
+                task.setId(id);
+            }
+        }
+
+        if (task != null) {
+            return task;
+        }
+        return TaskLineParser.parse(decode(buffer, start, end));
+    }
+
+    /**
+     * Decodes a canonical ID field: up to {@value #MAX_ID_DIGITS} digits without a leading zero.
+     *
+     * @return The ID, or 0 if the field is not canonical.
+     */
+    private static long parseId(ByteBuffer buffer, int from, int to) {
+        if (to <= from || to - from > MAX_ID_DIGITS || buffer.get(from) == '0') {
+            return 0;
+        }
+        long id = 0;
+        for (int i = from; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return 0;
+            }
+            id = id * 10 + digit;
+        }
+        return id;
+    }
+
+    /**
+     * Decodes a record in the canonical form, e.g. {@code D | 1 | description | 2026-02-01 1800}.
+     *
+     * @return The decoded task, or null if the line deviates from the canonical form in any way.
+     */
+    private static Task parseCanonical(ByteBuffer buffer, int start, int end) throws CherishException {
+        if (end - start < 8 || !isSeparator(buffer, start + 1, end) || !isSeparator(buffer, start + 5, end)) {
+            return null;
+        }
+
+        byte done = buffer.get(start + 4);
+        if (done != '0' && done != '1') {
+            return null;
+        }
+
+        int descriptionStart = start + 8;
+        int descriptionEnd = indexOfSeparator(buffer, descriptionStart, end);
+
+        Task task;
+        switch (buffer.get(start)) {
+        case 'T':
+            task = new Todo(decode(buffer, descriptionStart, descriptionEnd));
+            break;
+
+        case 'D': {
+            int byStart = descriptionEnd + 3;
+            LocalDateTime by = parseDateTime(buffer, byStart, indexOfSeparator(buffer, byStart, end));
+            if (by == null) {
+                return null;
+            }
+            task = new Deadline(decode(buffer, descriptionStart, descriptionEnd), by);
+            break;
+        }
+
+        case 'E': {
+            int fromStart = descriptionEnd + 3;
+            int fromEnd = indexOfSeparator(buffer, fromStart, end);
+            int toStart = fromEnd + 3;
+            LocalDateTime from = parseDateTime(buffer, fromStart, fromEnd);
+            LocalDateTime to = parseDateTime(buffer, toStart, indexOfSeparator(buffer, toStart, end));
+            if (from == null || to == null) {
+                return null;
+            }
+            task = new Event(decode(buffer, descriptionStart, descriptionEnd), from, to);
+            break;
+        }
+
+        default:
+            return null;
+        }
+
+        if (done == '1') {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Decodes a yyyy-MM-dd HHmm field with fixed offsets.
+     *
+     * @return The date-time, or null if the field is missing or anything but a plain valid date-time,
+     *         in which case the formatter decides how to resolve or reject it.
+     */
+    private static LocalDateTime parseDateTime(ByteBuffer buffer, int from, int to) {
+        if (to - from != DATE_TIME_LENGTH
+                || buffer.get(from + 4) != '-' || buffer.get(from + 7) != '-' || buffer.get(from + 10) != ' ') {
+            return null;
+        }
+
+        int year = digits(buffer, from, 4);
+        int month = digits(buffer, from + 5, 2);
+        int day = digits(buffer, from + 8, 2);
+        int hour = digits(buffer, from + 11, 2);
+        int minute = digits(buffer, from + 13, 2);
+
+        if (year < 1 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        if (day > 28 && day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Returns the decimal value of the given number of digits, or -1 if any byte is not a digit.
+     */
+    private static int digits(ByteBuffer buffer, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isSeparator(ByteBuffer buffer, int index, int end) {
+        return index + 3 <= end
+                && buffer.get(index) == ' ' && buffer.get(index + 1) == '|' && buffer.get(index + 2) == ' ';
+    }
+
+    /**
+     * Returns the offset of the next " | " at or after from, or end if there is none.
+     * A negative or out-of-range from yields end as well.
+     */
+    private static int indexOfSeparator(ByteBuffer buffer, int from, int end) {
+        for (int i = Math.max(from, 0); i + 3 <= end; i++) {
+            if (buffer.get(i) == ' ' && isSeparator(buffer, i, end)) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Checks whether the line consists of whitespace only, matching {@link String#trim()}.
+     */
+    private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((buffer.get(i) & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes bytes as UTF-8, rejecting malformed input like the line-based reader does.
+     */
+    private static String decode(ByteBuffer buffer, int from, int to) throws CherishException {
+        if (from >= to) {
+            return "";
+        }
+
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+
+        for (byte b : bytes) {
+            if (b < 0) {
+                try {
+                    CharBuffer chars = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes));
+                    return chars.toString();
+                } catch (CharacterCodingException e) {
+                    throw new CherishException("Failed to read tasks from storage file.");
+                }
+            }
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -1,8 +1,12 @@
 // File: src/main/java/cherish/ui/MainWindow.java
 package cherish.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+
 import cherish.Cherish;
 import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.ScrollPane;
@@ -23,6 +27,7 @@ public class MainWindow extends AnchorPane {
     private static final String CHERISH_IMAGE_PATH = "/images/pig.png";
     private static final String EXIT_KEYWORD = "bye.";
     private static final String STYLESHEET_PATH = "/view/styles.css";
+    private static final String LOADING_MESSAGE = "Still loading your tasks... I'll reply as soon as they are ready!";
 
     // === FXML-injected fields ===
     @FXML
@@ -42,6 +47,9 @@ public class MainWindow extends AnchorPane {
     private Image userImage = new Image(this.getClass().getResourceAsStream(USER_IMAGE_PATH));
     private Image cherishImage = new Image(this.getClass().getResourceAsStream(CHERISH_IMAGE_PATH));
 
+    /** Inputs sent while the task list was still loading, answered in order once it is ready. */
+    private final Queue<String> pendingInputs = new ArrayDeque<>();
+
     /**
      * Initializes the controller after its FXML elements have been loaded.
      * Sets up auto-scrolling and loads the custom CSS stylesheet.
@@ -65,11 +73,15 @@ public class MainWindow extends AnchorPane {
     public void setCherish(Cherish c) {
         cherish = c;
         showInitialMessages();
+        cherish.whenReady().thenRun(() -> Platform.runLater(() -> addCherishDialog(cherish.startReminders(
+                reminder -> Platform.runLater(() -> addCherishDialog(reminder))
+        ))));
     }
 
     /**
      * Handles the action triggered when the user sends input.
      * Processes the command, displays user and bot responses, checks for exit, and clears input.
+     * While the task list is still loading, the input is queued and answered once it is ready.
      */
     @FXML
     private void handleUserInput() {
@@ -79,7 +91,39 @@ public class MainWindow extends AnchorPane {
         }
 
         addUserDialog(input);
+        userInput.clear();
+
+        if (!cherish.isReady() || !pendingInputs.isEmpty()) {
+            queueInput(input);
+            return;
+        }
+        respondTo(input);
+    }
+
+    // === Private helper methods ===
+
+    /**
+     * Queues an input until the task list is ready, without blocking the UI thread.
+     */
+    private void queueInput(String input) {
+        if (pendingInputs.isEmpty()) {
+            addCherishDialog(LOADING_MESSAGE);
+            cherish.whenReady().thenRun(() -> Platform.runLater(this::respondToPendingInputs));
+        }
+        pendingInputs.add(input);
+    }
+
+    private void respondToPendingInputs() {
+        while (!pendingInputs.isEmpty() && !cherish.shouldExit()) {
+            respondTo(pendingInputs.poll());
+        }
+        pendingInputs.clear();
+    }
 
+    /**
+     * Displays the response to an input and checks for exit.
+     */
+    private void respondTo(String input) {
         String response = cherish.getResponse(input);
         addCherishDialog(response);
 
@@ -87,12 +131,8 @@ public class MainWindow extends AnchorPane {
         if (cherish.shouldExit()) {
             handleExit();
         }
-
-        userInput.clear();
     }
 
-    // === Private helper methods ===
-
     /**
      * Displays the initial welcome messages from Cherish.
      */
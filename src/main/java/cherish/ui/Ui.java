@@ -1,6 +1,10 @@
 package cherish.ui;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
 
@@ -14,6 +18,7 @@ public class Ui {
     private static final String BYE_MSG = "Bye. Hope to see you again soon!";
     private static final String LOADING_ERROR_MSG = "Warning: Could not load task data. Starting with empty list.";
     private static final String ERROR_PREFIX = "Oops! ";
+    private static final int OUTPUT_BUFFER_CHARS = 64 * 1024;
 
     private final Scanner scanner;
     private final List<String> messagesForGui;
@@ -54,6 +59,45 @@ public class Ui {
         display(message);
     }
 
+    /**
+     * Shows a reminder at once, from any thread, in console mode.
+     * In GUI mode reminders go to the window instead, see {@code Cherish#startReminders}.
+     *
+     * @param message The reminder.
+     */
+    public void showReminder(String message) {
+        assert !isGuiMode : "Reminders are shown by the window in GUI mode";
+        synchronized (System.out) {
+            System.out.println(message + "\n");
+        }
+    }
+
+    /**
+     * Shows a message made of a header and many lines. In console mode the lines are
+     * written as they are produced, so the whole message is never held in memory.
+     *
+     * @param header First line of the message.
+     * @param lines The remaining lines.
+     */
+    public void showLines(String header, Iterator<String> lines) {
+        if (isGuiMode) {
+            StringBuilder message = new StringBuilder(header);
+            lines.forEachRemaining(line -> message.append("\n").append(line));
+            messagesForGui.add(message.toString());
+            return;
+        }
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), OUTPUT_BUFFER_CHARS));
+        out.println(header);
+        lines.forEachRemaining(out::println);
+        out.println();
+        out.flush();
+    }
+
+    public boolean isGuiMode() {
+        return isGuiMode;
+    }
+
     /**
      * Print Line
      */
@@ -3,6 +3,9 @@ package cherish;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
 
 public class CherishTest {
@@ -60,4 +63,32 @@ public class CherishTest {
         assertTrue(listResponse.contains("read book"));
     }
 
+    @Test
+    void getResponse_progressiveLoad_waitsForTasks() {
+        Cherish cherish = new Cherish("test.txt", true);
+
+        String response = cherish.getResponse("list");
+
+        assertTrue(cherish.isReady());
+        assertTrue(cherish.whenReady().isDone());
+        assertFalse(response.isEmpty());
+    }
+
+    @Test
+    void startReminders_progressiveLoadFails_returnsLoadingWarning() throws Exception {
+        Path file = Path.of("data/test-unreadable.txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "this is not a task\n");
+        try {
+            Cherish cherish = new Cherish(file.toString(), true);
+            cherish.whenReady().join();
+
+            String shown = cherish.startReminders(reminder -> { });
+
+            assertTrue(shown.contains("Could not load task data"));
+            assertFalse(cherish.getResponse("list").contains("Hello!"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
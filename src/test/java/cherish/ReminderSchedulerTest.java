@@ -0,0 +1,117 @@
+package cherish;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import cherish.model.Deadline;
+import cherish.model.Event;
+import cherish.model.Task;
+import cherish.model.TaskList;
+import cherish.model.TaskListVersion;
+import cherish.model.Todo;
+
+public class ReminderSchedulerTest {
+
+    private static final Clock CLOCK = Clock.systemDefaultZone();
+
+    private static final TaskList.ChangeListener IGNORE_CHANGES = new TaskList.ChangeListener() {
+        @Override
+        public void inserted(int index, Task task) {
+        }
+
+        @Override
+        public void removed(int index) {
+        }
+
+        @Override
+        public void marked(int index, boolean isDone) {
+        }
+    };
+
+    @Test
+    void deliverDue_closeTasksOnly_remindsOfEach() throws Exception {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        TaskList tasks = new TaskList(new Task[] {
+            new Deadline("report", now.plusMinutes(30)),
+            new Deadline("essay", now.plusDays(3)),
+            new Deadline("taxes", now.minusDays(1)),
+            new Todo("read"),
+        });
+        List<String> messages = new ArrayList<>();
+        ReminderScheduler reminders = new ReminderScheduler(
+                CLOCK, Duration.ofHours(1), Duration.ofMinutes(15), messages::add
+        );
+
+        tasks.setDueListener(reminders);
+        tasks.add(new Event("meeting", now.plusMinutes(10), now.plusHours(1)));
+        tasks.add(new Event("party", now.plusHours(2), now.plusHours(5)));
+
+        assertEquals(4, reminders.size());
+        assertEquals(2, reminders.deliverDue());
+        assertTrue(messages.get(0).contains("due soon") && messages.get(0).contains("report"));
+        assertTrue(messages.get(1).contains("starting soon") && messages.get(1).contains("meeting"));
+        assertEquals(0, reminders.deliverDue());
+    }
+
+    @Test
+    void deliverDue_afterDeleteMarkAndUndo_followsTaskList() throws Exception {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        TaskList tasks = new TaskList();
+        List<String> messages = new ArrayList<>();
+        ReminderScheduler reminders = new ReminderScheduler(
+                CLOCK, Duration.ofHours(1), Duration.ofMinutes(15), messages::add
+        );
+        tasks.setDueListener(reminders);
+
+        tasks.add(new Deadline("report", now.plusMinutes(30)));
+        tasks.add(new Deadline("slides", now.plusMinutes(40)));
+        tasks.add(new Deadline("essay", now.plusMinutes(50)));
+        TaskListVersion before = tasks.checkpoint();
+        tasks.remove(0);
+        tasks.markAsDone(0);
+        assertEquals(1, reminders.size());
+
+        tasks.markAsNotDone(0);
+        tasks.remove(1);
+        assertEquals(1, reminders.size());
+
+        tasks.restore(before, IGNORE_CHANGES);
+        assertEquals(3, reminders.deliverDue());
+        assertTrue(messages.get(0).contains("report"));
+        assertTrue(messages.get(2).contains("essay"));
+    }
+
+    @Test
+    void start_reminderFallsDue_deliveredOnReminderThread() throws Exception {
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        TaskList tasks = new TaskList();
+        BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+        ReminderScheduler reminders = new ReminderScheduler(
+                CLOCK, Duration.ofHours(1), Duration.ofMinutes(15), messages::add
+        );
+        tasks.setDueListener(reminders);
+        reminders.start();
+
+        for (int i = 0; i < 100_000; i++) {
+            tasks.add(new Deadline("later " + i, now.plusDays(2).plusMinutes(i)));
+        }
+        tasks.add(new Deadline("report", now.plusHours(1).plusNanos(300_000_000)));
+
+        String message = messages.poll(5, TimeUnit.SECONDS);
+        assertTrue(message != null && message.contains("report"));
+        assertEquals(100_000, reminders.size());
+        reminders.close();
+        assertEquals(0, reminders.size());
+    }
+}
@@ -0,0 +1,74 @@
+package cherish.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+import cherish.model.Todo;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+public class BulkDeleteCommandTest {
+
+    @Test
+    void execute_rangeAndNumber_removesSelectedTasks() throws Exception {
+        Ui ui = new Ui(true);
+        TaskList tasks = new TaskList();
+        Storage storage = new Storage("test.txt");
+        for (int i = 0; i < 6; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        tasks.markAsDone(5);
+
+        BulkDeleteCommand command = new BulkDeleteCommand(
+                new TaskSelection().addRange(1, 3).add(TaskReference.ofIndex(5))
+        );
+        String result = command.execute(tasks, ui, storage);
+
+        assertTrue(result.contains("I've removed 4 tasks"));
+        assertEquals(2, tasks.size());
+        assertEquals("task 0", tasks.getByIndex(0).getDescription());
+        assertEquals("task 4", tasks.getByIndex(1).getDescription());
+        assertEquals(0, tasks.countDone());
+    }
+
+    @Test
+    void undo_afterExecute_restoresAllTasksInOrder() throws Exception {
+        Ui ui = new Ui(true);
+        TaskList tasks = new TaskList();
+        Storage storage = new Storage("test.txt");
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        tasks.markAsDone(2);
+
+        BulkDeleteCommand command = new BulkDeleteCommand(new TaskSelection().addRange(0, 3));
+        command.execute(tasks, ui, storage);
+        String result = command.undo(tasks, ui, storage);
+
+        assertTrue(result.contains("I've restored 4 tasks"));
+        assertEquals(5, tasks.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("task " + i, tasks.getByIndex(i).getDescription());
+        }
+        assertEquals(1, tasks.countDone());
+        assertTrue(tasks.getByIndex(2).isDone());
+    }
+
+    @Test
+    void execute_rangePastEnd_throwsException() throws Exception {
+        Ui ui = new Ui(true);
+        TaskList tasks = new TaskList();
+        Storage storage = new Storage("test.txt");
+        tasks.add(new Todo("only task"));
+
+        BulkDeleteCommand command = new BulkDeleteCommand(new TaskSelection().addRange(0, 2));
+
+        assertThrows(CherishException.class, () -> command.execute(tasks, ui, storage));
+        assertEquals(1, tasks.size());
+    }
+}
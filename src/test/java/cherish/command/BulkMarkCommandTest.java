@@ -0,0 +1,66 @@
+package cherish.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import cherish.CherishException;
+import cherish.model.TaskList;
+import cherish.model.Todo;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+public class BulkMarkCommandTest {
+
+    @Test
+    void execute_range_marksOnlyTasksNotYetDone() throws Exception {
+        Ui ui = new Ui(true);
+        TaskList tasks = new TaskList();
+        Storage storage = new Storage("test.txt");
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        tasks.markAsDone(1);
+
+        BulkMarkCommand command = new BulkMarkCommand(new TaskSelection().addRange(0, 2), true);
+        String result = command.execute(tasks, ui, storage);
+
+        assertTrue(result.contains("marked 2 tasks as done"));
+        assertEquals(3, tasks.countDone());
+        assertFalse(tasks.getByIndex(3).isDone());
+    }
+
+    @Test
+    void undo_afterExecute_restoresPreviousStatus() throws Exception {
+        Ui ui = new Ui(true);
+        TaskList tasks = new TaskList();
+        Storage storage = new Storage("test.txt");
+        for (int i = 0; i < 4; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        tasks.markAsDone(1);
+
+        BulkMarkCommand command = new BulkMarkCommand(new TaskSelection().addRange(0, 3), true);
+        command.execute(tasks, ui, storage);
+        command.undo(tasks, ui, storage);
+
+        assertEquals(1, tasks.countDone());
+        assertTrue(tasks.getByIndex(1).isDone());
+    }
+
+    @Test
+    void execute_allAlreadyInState_throwsException() throws Exception {
+        Ui ui = new Ui(true);
+        TaskList tasks = new TaskList();
+        Storage storage = new Storage("test.txt");
+        tasks.add(new Todo("task one"));
+        tasks.add(new Todo("task two"));
+
+        BulkMarkCommand command = new BulkMarkCommand(new TaskSelection().addRange(0, 1), false);
+
+        assertThrows(CherishException.class, () -> command.execute(tasks, ui, storage));
+    }
+}
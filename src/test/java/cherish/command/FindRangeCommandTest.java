@@ -0,0 +1,92 @@
+package cherish.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import cherish.CherishException;
+import cherish.model.Deadline;
+import cherish.model.Event;
+import cherish.model.TaskList;
+import cherish.model.Todo;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+public class FindRangeCommandTest {
+
+    @Test
+    void execute_tasksInRange_returnsDeadlinesAndOverlappingEvents() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        tasks.add(new Event("conference", "2026-01-28 0900", "2026-02-02 1700"));
+        tasks.add(new Todo("random task"));
+        tasks.add(new Deadline("submit report", "2026-02-05 1800"));
+        tasks.add(new Deadline("pay rent", "2026-02-09 1200"));
+
+        FindRangeCommand command = new FindRangeCommand("2026-02-01", "2026-02-07", 1);
+
+        assertEquals("Here are the tasks from 2026-02-01 to 2026-02-07:"
+                + "\n1.[E][ ] conference (from: Jan 28 2026 0900 to: Feb 02 2026 1700)"
+                + "\n2.[D][ ] submit report (by: Feb 05 2026 1800)", command.execute(tasks, ui, storage));
+    }
+
+    @Test
+    void execute_wideRange_returnsRequestedPage() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        for (int i = 1; i <= TaskList.RANGE_PAGE_SIZE + 5; i++) {
+            tasks.add(new Deadline("task " + i, "2026-02-01 1800"));
+        }
+
+        String first = new FindRangeCommand("2026-02-01", "2026-02-28", 1).execute(tasks, ui, storage);
+        String second = new FindRangeCommand("2026-02-01", "2026-02-28", 2).execute(tasks, ui, storage);
+
+        assertTrue(first.startsWith("Here are the tasks from 2026-02-01 to 2026-02-28 (page 1 of 2):\n1."));
+        assertTrue(first.endsWith("Type 'findrange 2026-02-01 2026-02-28 2' for more."));
+        assertFalse(first.contains("task " + (TaskList.RANGE_PAGE_SIZE + 1) + " "));
+        assertTrue(second.startsWith("Here are the tasks from 2026-02-01 to 2026-02-28 (page 2 of 2):\n"
+                + (TaskList.RANGE_PAGE_SIZE + 1) + ".[D][ ] task " + (TaskList.RANGE_PAGE_SIZE + 1) + " "));
+        assertThrows(CherishException.class,
+                () -> new FindRangeCommand("2026-02-01", "2026-02-28", 3).execute(tasks, ui, storage));
+    }
+
+    @Test
+    void execute_noTasksInRange_returnsNoTasksMessage() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        tasks.add(new Deadline("submit report", "2026-03-01 1800"));
+
+        FindRangeCommand command = new FindRangeCommand("2026-02-01", "2026-02-07", 1);
+
+        assertEquals("No tasks found from 2026-02-01 to 2026-02-07.", command.execute(tasks, ui, storage));
+    }
+
+    @Test
+    void execute_endBeforeStart_throwsException() {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        FindRangeCommand command = new FindRangeCommand("2026-02-07", "2026-02-01", 1);
+
+        assertThrows(
+                CherishException.class, () -> command.execute(tasks, ui, storage)
+        );
+    }
+
+    @Test
+    void isUndoable_returnsFalse() {
+        FindRangeCommand command = new FindRangeCommand("2026-02-01", "2026-02-07", 1);
+
+        assertFalse(command.isUndoable());
+    }
+}
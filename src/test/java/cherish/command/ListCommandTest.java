@@ -2,10 +2,16 @@ package cherish.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
 import org.junit.jupiter.api.Test;
 
+import cherish.CherishException;
 import cherish.model.TaskList;
 import cherish.model.Todo;
 import cherish.storage.Storage;
@@ -14,7 +20,7 @@ import cherish.ui.Ui;
 public class ListCommandTest {
 
     @Test
-    void execute_emptyTaskList_returnsEmptyMessage() {
+    void execute_emptyTaskList_returnsEmptyMessage() throws Exception {
         TaskList tasks = new TaskList();
         Ui ui = new Ui(true);
         Storage storage = new Storage("test.txt");
@@ -47,6 +53,63 @@ public class ListCommandTest {
         assertTrue(result.contains("write report"));
     }
 
+    @Test
+    void execute_page_returnsOnlyThatPage() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        for (int i = 1; i <= 5; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+
+        String result = new ListCommand(2, 2).execute(tasks, ui, storage);
+
+        assertEquals("Here are the tasks in your list (page 2 of 3):\n3.[T][ ] task 3\n4.[T][ ] task 4"
+                + "\nType 'list 3 2' for more.", result);
+        assertThrows(CherishException.class, () -> new ListCommand(4, 2).execute(tasks, ui, storage));
+    }
+
+    @Test
+    void execute_guiMode_showsFirstPageOnly() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        for (int i = 1; i <= TaskList.LIST_PAGE_SIZE + 1; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+
+        String result = new ListCommand().execute(tasks, ui, storage);
+
+        assertTrue(result.startsWith("Here are the tasks in your list (page 1 of 2):"));
+        assertFalse(result.contains("task " + (TaskList.LIST_PAGE_SIZE + 1)));
+    }
+
+    @Test
+    void execute_consoleMode_streamsWholeListToUi() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(false);
+        Storage storage = new Storage("test.txt");
+
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("write report"));
+
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        String result;
+        try {
+            System.setOut(new PrintStream(output, true));
+            result = new ListCommand().execute(tasks, ui, storage);
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertNull(result);
+        assertEquals("Here are the tasks in your list:\n1.[T][ ] read book\n2.[T][ ] write report\n\n",
+                output.toString().replace(System.lineSeparator(), "\n"));
+    }
+
     @Test
     void isUndoable_returnsFalse() {
         ListCommand command = new ListCommand();
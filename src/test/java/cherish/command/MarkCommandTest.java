@@ -30,6 +30,25 @@ public class MarkCommandTest {
         assertTrue(result.contains("This task is done"));
     }
 
+    @Test
+    void execute_taskId_marksTaskAfterEarlierOneRemoved() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("write code"));
+        tasks.remove(0);
+
+        MarkCommand command = new MarkCommand(TaskReference.ofId(2));
+
+        command.execute(tasks, ui, storage);
+
+        assertTrue(tasks.getByIndex(0).isDone());
+        assertThrows(CherishException.class,
+                () -> new MarkCommand(TaskReference.ofId(1)).execute(tasks, ui, storage));
+    }
+
     @Test
     void undo_afterExecute_marksTaskAsNotDone() throws Exception {
         TaskList tasks = new TaskList();
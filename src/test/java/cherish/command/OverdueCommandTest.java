@@ -0,0 +1,43 @@
+package cherish.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import cherish.model.Deadline;
+import cherish.model.Event;
+import cherish.model.TaskList;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+public class OverdueCommandTest {
+
+    private static final Clock FEB_1_NOON = Clock.fixed(Instant.parse("2026-02-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void execute_overdueDeadlines_listsOnlyPastDeadlinesStillToDo() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        tasks.add(new Deadline("report", "2026-01-31 1800"));
+        tasks.add(new Deadline("taxes", "2026-01-15 0900"));
+        tasks.add(new Event("meeting", "2026-01-30 0900", "2026-01-30 1000"));
+        tasks.add(new Deadline("essay", "2026-02-10 2359"));
+        tasks.markAsDone(1);
+
+        String result = new OverdueCommand(FEB_1_NOON).execute(tasks, ui, storage);
+
+        assertEquals("These deadlines are overdue:\n1.[D][ ] report (by: Jan 31 2026 1800)", result);
+    }
+
+    @Test
+    void isUndoable_returnsFalse() {
+        assertFalse(new OverdueCommand().isUndoable());
+    }
+}
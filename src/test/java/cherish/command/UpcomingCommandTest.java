@@ -0,0 +1,47 @@
+package cherish.command;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import cherish.model.Deadline;
+import cherish.model.Event;
+import cherish.model.TaskList;
+import cherish.model.Todo;
+import cherish.storage.Storage;
+import cherish.ui.Ui;
+
+public class UpcomingCommandTest {
+
+    private static final Clock FEB_1_NOON = Clock.fixed(Instant.parse("2026-02-01T12:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void execute_fixedClock_returnsNextTasksInDueOrder() throws Exception {
+        TaskList tasks = new TaskList();
+        Ui ui = new Ui(true);
+        Storage storage = new Storage("test.txt");
+
+        tasks.add(new Deadline("essay", "2026-02-10 2359"));
+        tasks.add(new Todo("read"));
+        tasks.add(new Event("meeting", "2026-02-02 0900", "2026-02-02 1000"));
+        tasks.add(new Deadline("report", "2026-01-31 1800"));
+        tasks.add(new Deadline("slides", "2026-02-20 1200"));
+
+        String result = new UpcomingCommand(2, FEB_1_NOON).execute(tasks, ui, storage);
+
+        assertTrue(result.indexOf("meeting") < result.indexOf("essay"));
+        assertFalse(result.contains("slides"));
+        assertFalse(result.contains("report"));
+        assertFalse(result.contains("read"));
+    }
+
+    @Test
+    void isUndoable_returnsFalse() {
+        assertFalse(new UpcomingCommand(5).isUndoable());
+    }
+}
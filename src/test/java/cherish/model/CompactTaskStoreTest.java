@@ -0,0 +1,74 @@
+package cherish.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactTaskStoreTest {
+
+    @Test
+    void constructor_fromTaskList_roundTripsEveryTaskType() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("caf\u00e9 \u2615"));
+        tasks.add(new Deadline("submit report", "2026-02-01 1800"));
+        tasks.add(new Event("meeting", "2026-02-01 1800", "2026-02-01 2000"));
+        tasks.markAsDone(1);
+
+        CompactTaskStore store = new CompactTaskStore(tasks.toArray());
+        TaskList restored = new TaskList(store.toArray());
+
+        assertEquals(tasks.getListString(), restored.getListString());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.getByIndex(i).getId(), restored.getByIndex(i).getId());
+        }
+    }
+
+    @Test
+    void remove_shiftsLaterTasksAndStatus() throws Exception {
+        CompactTaskStore store = new CompactTaskStore();
+        for (int i = 0; i < 5; i++) {
+            store.add(new Todo("task " + i));
+        }
+        store.setDone(3, true);
+
+        store.remove(1);
+
+        assertEquals(4, store.size());
+        assertEquals("task 2", store.get(1).getDescription());
+        assertTrue(store.isDone(2));
+        assertFalse(store.isDone(3));
+    }
+
+    @Test
+    void get_changingReturnedTask_leavesStoreUnchanged() throws Exception {
+        CompactTaskStore store = new CompactTaskStore();
+        store.add(new Deadline("submit report", LocalDateTime.of(2026, 2, 1, 18, 0)));
+
+        store.get(0).markAsDone();
+
+        assertFalse(store.isDone(0));
+        assertEquals(LocalDateTime.of(2026, 2, 1, 18, 0), ((Deadline) store.get(0)).getBy());
+    }
+
+    @Test
+    void remove_manyTasks_reclaimsDescriptionSpace() throws Exception {
+        CompactTaskStore store = new CompactTaskStore();
+        for (int i = 0; i < 1000; i++) {
+            store.add(new Todo("a fairly long description for task " + i));
+        }
+        long fullBytes = store.estimateMemoryBytes();
+
+        for (int i = 0; i < 999; i++) {
+            store.remove(0);
+        }
+        store.add(new Todo("new task"));
+
+        assertEquals("a fairly long description for task 999", store.get(0).getDescription());
+        assertEquals("new task", store.get(1).getDescription());
+        assertTrue(store.estimateMemoryBytes() < fullBytes);
+    }
+}
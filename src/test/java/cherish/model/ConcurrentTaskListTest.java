@@ -0,0 +1,163 @@
+package cherish.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentTaskListTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int WRITES_PER_WRITER = 1500;
+
+    @Test
+    void snapshot_laterChanges_doNotShowThrough() throws Exception {
+        TaskList tasks = new TaskList(new Task[] {new Todo("read"), new Deadline("essay", "2026-02-01 2359")});
+        TaskSnapshot before = tasks.snapshot();
+
+        tasks.markAsDone(1);
+        tasks.addByIndex(0, new Todo("write"));
+        tasks.remove(2);
+
+        assertEquals("Here are the tasks in your list:\n1.[T][ ] read\n2.[D][ ] essay (by: Feb 01 2026 2359)",
+                before.getListPage(1, TaskList.LIST_PAGE_SIZE));
+        assertEquals(0, before.countDone());
+        assertEquals("Here are the tasks on 2026-02-01:\n1.[D][ ] essay (by: Feb 01 2026 2359)",
+                before.findTasksOnDate("2026-02-01"));
+
+        TaskSnapshot after = tasks.snapshot();
+        assertEquals(tasks.getListPage(1, 1), after.getListPage(1, 1));
+        assertEquals(tasks.findTasksByKeyword("RE"), after.findTasksByKeyword("RE"));
+        assertEquals("No tasks found on 2026-02-01.", after.findTasksOnDate("2026-02-01"));
+    }
+
+    /**
+     * Writers add, mark and delete tasks in adjacent pairs, one pair per change, while readers
+     * check that every snapshot they see holds whole pairs; a torn read would split one.
+     */
+    @Test
+    void writeAndSnapshot_manyThreads_readersSeeWholeChanges() throws Exception {
+        ConcurrentTaskList shared = new ConcurrentTaskList(new TaskList());
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS + READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicLong snapshotsChecked = new AtomicLong();
+
+        try {
+            List<Future<Integer>> writers = new ArrayList<>();
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(pool.submit(() -> {
+                    start.await();
+                    return writePairs(shared, writer);
+                }));
+            }
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < READERS; r++) {
+                readers.add(pool.submit(() -> {
+                    start.await();
+                    do {
+                        checkPairs(shared.snapshot());
+                        snapshotsChecked.incrementAndGet();
+                    } while (isWriting.get());
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            int expectedSize = 0;
+            for (Future<Integer> writer : writers) {
+                expectedSize += writer.get(60, TimeUnit.SECONDS);
+            }
+            isWriting.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+
+            TaskSnapshot last = shared.snapshot();
+            checkPairs(last);
+            assertEquals(expectedSize, last.size());
+            assertEquals(expectedSize, (int) shared.write(TaskList::size));
+            assertTrue(snapshotsChecked.get() >= READERS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    /**
+     * Makes random paired changes and returns the number of tasks this writer left in the list.
+     */
+    private static int writePairs(ConcurrentTaskList shared, int writer) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Task> added = new ArrayList<>();
+        for (int i = 0; i < WRITES_PER_WRITER; i++) {
+            int action = random.nextInt(4);
+            if (action <= 1 || added.isEmpty()) {
+                Todo first = new Todo("w" + writer + "-" + i + " a");
+                Todo second = new Todo("w" + writer + "-" + i + " b");
+                shared.write(tasks -> {
+                    int index = 2 * random.nextInt(tasks.size() / 2 + 1);
+                    tasks.addByIndex(index, first);
+                    tasks.addByIndex(index + 1, second);
+                    return null;
+                });
+                added.add(first);
+            } else if (action == 2) {
+                Task first = added.get(random.nextInt(added.size()));
+                shared.write(tasks -> {
+                    int index = tasks.getIndexById(first.getId());
+                    if (first.isDone()) {
+                        tasks.markAsNotDone(index);
+                        tasks.markAsNotDone(index + 1);
+                    } else {
+                        tasks.markAsDone(index);
+                        tasks.markAsDone(index + 1);
+                    }
+                    return null;
+                });
+            } else {
+                Task first = added.remove(random.nextInt(added.size()));
+                shared.write(tasks -> {
+                    int index = tasks.getIndexById(first.getId());
+                    tasks.remove(index);
+                    tasks.remove(index);
+                    return null;
+                });
+            }
+        }
+        return 2 * added.size();
+    }
+
+    private static void checkPairs(TaskSnapshot snapshot) {
+        int size = snapshot.size();
+        assertEquals(0, size % 2, "Snapshot holds half a pair");
+        assertEquals(0, snapshot.countDone() % 2, "Snapshot holds half a marked pair");
+
+        int count = 0;
+        for (Iterator<String> lines = snapshot.getListLines(0); lines.hasNext(); count += 2) {
+            String first = lines.next();
+            String second = lines.next();
+            assertTrue(first.endsWith(" a"), first);
+            assertEquals(first.substring(first.indexOf('.') + 1, first.length() - 1),
+                    second.substring(second.indexOf('.') + 1, second.length() - 1));
+        }
+        assertEquals(size, count);
+    }
+}
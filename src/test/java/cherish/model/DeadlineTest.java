@@ -1,6 +1,7 @@
 package cherish.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,21 @@ class DeadlineTest {
                 deadline.toString());
     }
 
+    @Test
+    void toString_repeatedAndAfterMark_reusesOrRebuildsDisplay() throws Exception {
+        Deadline deadline =
+                new Deadline("submit report", "2026-01-31 1800");
+
+        String display = deadline.toString();
+        assertSame(display, deadline.toString());
+
+        deadline.markAsDone();
+        assertEquals("[D][X] submit report (by: Jan 31 2026 1800)", deadline.toString());
+
+        deadline.markAsNotDone();
+        assertEquals(display, deadline.toString());
+    }
+
     @Test
     void constructor_invalidDate_throwsException() {
         assertThrows(CherishException.class, () -> new Deadline("submit report",
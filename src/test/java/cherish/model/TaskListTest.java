@@ -1,7 +1,14 @@
 package cherish.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +39,192 @@ class TaskListTest {
         assertEquals("[T][ ] b", tasks.getByIndex(1).toString());
     }
 
+    @Test
+    void addByIndexAndRemove_manyTasks_keepPositions() throws Exception {
+        TaskList tasks = new TaskList();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int index = (i * 7) % (tasks.size() + 1);
+            tasks.addByIndex(index, new Todo("task " + i));
+            expected.add(index, "[T][ ] task " + i);
+        }
+        for (int i = 0; i < 200; i++) {
+            int index = (i * 13) % tasks.size();
+            tasks.remove(index);
+            expected.remove(index);
+        }
+
+        assertEquals(expected.size(), tasks.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tasks.getByIndex(i).toString());
+        }
+    }
+
+    @Test
+    void countDoneAndListByStatus_afterManyChanges_matchTasks() throws Exception {
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 300; i++) {
+            int index = (i * 11) % (tasks.size() + 1);
+            tasks.addByIndex(index, new Todo("task " + i));
+            if (i % 3 == 0) {
+                tasks.markAsDone(index);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            tasks.remove((i * 17) % tasks.size());
+            if (i % 4 == 0) {
+                tasks.markAsNotDone((i * 5) % tasks.size());
+            }
+        }
+
+        int done = 0;
+        StringBuilder doneList = new StringBuilder("Here are the completed tasks in your list:");
+        StringBuilder undoneList = new StringBuilder("Here are the tasks you still have to do:");
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.getByIndex(i);
+            StringBuilder list = task.isDone() ? doneList : undoneList;
+            list.append("\n").append(i + 1).append(".").append(task);
+            done += task.isDone() ? 1 : 0;
+        }
+        assertEquals(done, tasks.countDone());
+        assertEquals(doneList.toString(), tasks.getListStringByStatus(true));
+        assertEquals(undoneList.toString(), tasks.getListStringByStatus(false));
+    }
+
+    @Test
+    void getListStringByStatus_loadedAndEmpty_reportsStatus() throws Exception {
+        Todo done = new Todo("read");
+        done.markAsDone();
+        TaskList tasks = new TaskList(new Task[] {new Todo("write"), done});
+
+        assertEquals(1, tasks.countDone());
+        assertEquals("Here are the completed tasks in your list:\n2.[T][X] read", tasks.getListStringByStatus(true));
+
+        tasks.pop();
+        assertEquals(0, tasks.countDone());
+        assertEquals("You haven't completed any tasks yet.", tasks.getListStringByStatus(true));
+        assertEquals("All done! You have no tasks left to do.", new TaskList().getListStringByStatus(false));
+    }
+
+    @Test
+    void findUpcomingAndOverdue_afterChanges_followDueTimes() throws Exception {
+        TaskList tasks = new TaskList(new Task[] {
+            new Deadline("report", "2026-02-01 1800"),
+            new Todo("read"),
+            new Event("camp", "2026-02-01 1800", "2026-02-03 1200"),
+            new Deadline("taxes", "2026-01-15 0900"),
+        });
+        tasks.add(new Deadline("essay", "2026-03-01 2359"));
+        tasks.add(new Deadline("rent", "2026-01-31 1200"));
+        LocalDateTime now = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+        assertEquals("Here's what's coming up next:\n1.[D][ ] report (by: Feb 01 2026 1800)\n"
+                + "2.[E][ ] camp (from: Feb 01 2026 1800 to: Feb 03 2026 1200)", tasks.findUpcomingTasks(2, now));
+        assertEquals("These deadlines are overdue:\n1.[D][ ] taxes (by: Jan 15 2026 0900)\n"
+                + "2.[D][ ] rent (by: Jan 31 2026 1200)", tasks.findOverdueTasks(now));
+
+        tasks.markAsDone(0);
+        tasks.remove(2);
+        tasks.markAsDone(4);
+        assertEquals("Here's what's coming up next:\n1.[D][ ] essay (by: Mar 01 2026 2359)",
+                tasks.findUpcomingTasks(5, now));
+        assertEquals("These deadlines are overdue:\n1.[D][ ] taxes (by: Jan 15 2026 0900)",
+                tasks.findOverdueTasks(now));
+
+        tasks.markAsNotDone(4);
+        tasks.pop();
+        tasks.remove(2);
+        tasks.remove(2);
+        assertEquals("You're all caught up! No deadlines are overdue.", tasks.findOverdueTasks(now));
+        assertEquals("Nothing coming up! You have no deadlines or events left to do.",
+                tasks.findUpcomingTasks(5, now));
+    }
+
+    @Test
+    void restore_eachCheckpointInReverse_returnsEarlierStates() throws Exception {
+        TaskList tasks = new TaskList(new Task[] {new Todo("seed")});
+        tasks.snapshot();
+        List<TaskListVersion> versions = new ArrayList<>();
+        List<String> states = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            versions.add(tasks.checkpoint());
+            states.add(tasks.getListString());
+            if (i % 3 == 0) {
+                tasks.addByIndex((i * 7) % (tasks.size() + 1), new Deadline("task " + i, "2026-02-01 0800"));
+            } else if (i % 3 == 1) {
+                tasks.markAsDone((i * 5) % tasks.size());
+            } else {
+                tasks.remove((i * 3) % tasks.size());
+                tasks.add(new Todo("task " + i));
+            }
+        }
+
+        List<String> saved = new ArrayList<>();
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            tasks.restore(versions.get(i), recordingListener(saved));
+            assertEquals(states.get(i), tasks.getListString());
+            assertEquals(states.get(i), "Here are the tasks in your list:\n"
+                    + String.join("\n", iterable(tasks.snapshot().getListLines(0))));
+            assertEquals(versions.get(i).getSnapshot(), tasks.snapshot());
+        }
+        assertEquals("[T][ ] seed", tasks.getByIndex(0).toString());
+        assertEquals(0, tasks.countDone());
+        assertEquals("No tasks found on 2026-02-01.", tasks.findTasksOnDate("2026-02-01"));
+        assertTrue(saved.contains("removed 0"));
+    }
+
+    @Test
+    void restore_checkpointsWithoutSnapshot_buildsSnapshotOnlyWhenAsked() throws Exception {
+        TaskList tasks = new TaskList(new Task[] {new Todo("a"), new Todo("b")});
+        TaskListVersion before = tasks.checkpoint();
+        tasks.markAsDone(0);
+        tasks.add(new Todo("c"));
+
+        assertNull(before.getSnapshot());
+        assertEquals(1, tasks.snapshot().countDone());
+        TaskListVersion after = tasks.checkpoint();
+        assertEquals(tasks.snapshot(), after.getSnapshot());
+
+        tasks.restore(before, recordingListener(new ArrayList<>()));
+        assertEquals("Here are the tasks in your list:\n1.[T][ ] a\n2.[T][ ] b",
+                "Here are the tasks in your list:\n" + String.join("\n", iterable(tasks.snapshot().getListLines(0))));
+    }
+
+    @Test
+    void restore_discardedVersion_throwsException() throws Exception {
+        TaskList tasks = new TaskList();
+        TaskListVersion empty = tasks.checkpoint();
+        tasks.add(new Todo("a"));
+        TaskListVersion one = tasks.checkpoint();
+        tasks.add(new Todo("b"));
+
+        tasks.restore(empty, recordingListener(new ArrayList<>()));
+
+        assertEquals(0, tasks.size());
+        assertThrows(CherishException.class, () -> tasks.restore(one, recordingListener(new ArrayList<>())));
+        assertThrows(CherishException.class, () -> new TaskList().restore(empty, recordingListener(new ArrayList<>())));
+    }
+
+    @Test
+    void getIndexById_afterRemoveAndInsert_followsTask() throws Exception {
+        TaskList tasks = new TaskList();
+        Todo first = new Todo("a");
+        Todo second = new Todo("b");
+        tasks.add(first);
+        tasks.add(second);
+
+        tasks.remove(0);
+        tasks.addByIndex(0, new Todo("c"));
+        tasks.addByIndex(2, first);
+
+        assertEquals(1, first.getId());
+        assertEquals(2, second.getId());
+        assertEquals(3, tasks.getByIndex(0).getId());
+        assertEquals(2, tasks.getIndexById(1));
+        assertEquals(1, tasks.getIndexById(2));
+        assertThrows(CherishException.class, () -> tasks.getIndexById(4));
+    }
+
     @Test
     void pop_emptyList_throwsException() {
         TaskList tasks = new TaskList();
@@ -50,4 +243,109 @@ class TaskListTest {
         assertEquals("Here are the matching tasks in your list:\n1.[T][ ] read book",
                 result);
     }
+
+    @Test
+    void findTasksByKeyword_partOfWordAndAcrossWords_matchesLikeSubstring() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("Read Book"));
+        tasks.add(new Todo("write notebook"));
+        tasks.add(new Todo("read a book"));
+
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] Read Book\n2.[T][ ] write notebook"
+                + "\n3.[T][ ] read a book", tasks.findTasksByKeyword("boo"));
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] Read Book",
+                tasks.findTasksByKeyword("d bo"));
+    }
+
+    @Test
+    void findTasksByKeyword_afterRemoveAndInsert_keepsListOrder() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("book a"));
+        tasks.add(new Todo("book b"));
+        tasks.add(new Todo("book c"));
+
+        tasks.remove(0);
+        tasks.addByIndex(1, new Todo("book d"));
+        tasks.pop();
+
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] book b\n2.[T][ ] book d",
+                tasks.findTasksByKeyword("book"));
+        assertEquals("No tasks found containing 'a'.", tasks.findTasksByKeyword("a"));
+    }
+
+    @Test
+    void findTasksByKeyword_shortKeywordWithSpace_matchesLikeSubstring() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read a book"));
+        tasks.add(new Todo("reading"));
+
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] read a book",
+                tasks.findTasksByKeyword("d "));
+        assertEquals("Here are the matching tasks in your list:\n1.[T][ ] read a book\n2.[T][ ] reading",
+                tasks.findTasksByKeyword("ad"));
+    }
+
+    @Test
+    void getIndexMemorySummary_reportsPerTaskEstimate() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+
+        String summary = tasks.getIndexMemorySummary();
+
+        assertTrue(summary.startsWith("Search index: about "));
+        assertTrue(summary.contains("for 1 tasks"));
+    }
+
+    @Test
+    void findTasksOnDate_deadlinesAndSpanningEvents_returnsMatchesInListOrder() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Event("trip", "2026-01-30 0900", "2026-02-02 1800"));
+        tasks.add(new Deadline("essay", "2026-02-01 2359"));
+        tasks.add(new Todo("read book"));
+        tasks.add(new Event("talk", "2026-02-02 1000", "2026-02-02 1100"));
+        tasks.addByIndex(0, new Deadline("quiz", "2026-02-01 0800"));
+
+        assertEquals("Here are the tasks on 2026-02-01:\n1.[D][ ] quiz (by: Feb 01 2026 0800)"
+                + "\n2.[E][ ] trip (from: Jan 30 2026 0900 to: Feb 02 2026 1800)"
+                + "\n3.[D][ ] essay (by: Feb 01 2026 2359)", tasks.findTasksOnDate("2026-02-01"));
+    }
+
+    @Test
+    void findTasksOnDate_afterRemove_dropsTask() throws Exception {
+        TaskList tasks = new TaskList();
+        tasks.add(new Event("trip", "2026-01-30 0900", "2026-02-02 1800"));
+        tasks.add(new Deadline("essay", "2026-02-01 2359"));
+
+        tasks.remove(0);
+        tasks.pop();
+
+        assertEquals("No tasks found on 2026-02-01.", tasks.findTasksOnDate("2026-02-01"));
+    }
+
+    /* =========================
+       Helper methods
+       ========================= */
+
+    private static TaskList.ChangeListener recordingListener(List<String> changes) {
+        return new TaskList.ChangeListener() {
+            @Override
+            public void inserted(int index, Task task) {
+                changes.add("inserted " + index);
+            }
+
+            @Override
+            public void removed(int index) {
+                changes.add("removed " + index);
+            }
+
+            @Override
+            public void marked(int index, boolean isDone) {
+                changes.add("marked " + index + " " + isDone);
+            }
+        };
+    }
+
+    private static <T> Iterable<T> iterable(Iterator<T> iterator) {
+        return () -> iterator;
+    }
 }
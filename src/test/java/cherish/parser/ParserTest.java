@@ -1,22 +1,30 @@
 package cherish.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
 import cherish.CherishException;
+import cherish.command.BulkDeleteCommand;
+import cherish.command.BulkMarkCommand;
 import cherish.command.ByeCommand;
+import cherish.command.CountCommand;
 import cherish.command.DeadlineCommand;
 import cherish.command.DeleteCommand;
 import cherish.command.EventCommand;
 import cherish.command.FindCommand;
 import cherish.command.FindDateCommand;
+import cherish.command.FindRangeCommand;
+import cherish.command.ListByStatusCommand;
 import cherish.command.ListCommand;
 import cherish.command.MarkCommand;
+import cherish.command.OverdueCommand;
 import cherish.command.TodoCommand;
 import cherish.command.UndoCommand;
 import cherish.command.UnmarkCommand;
+import cherish.command.UpcomingCommand;
 
 public class ParserTest {
 
@@ -34,6 +42,38 @@ public class ParserTest {
         assertInstanceOf(ListCommand.class, Parser.parse("list"));
     }
 
+    @Test
+    void parse_listByStatusAndCount_success() throws Exception {
+        assertInstanceOf(ListByStatusCommand.class, Parser.parse("list done"));
+        assertInstanceOf(ListByStatusCommand.class, Parser.parse("list  undone"));
+        assertInstanceOf(CountCommand.class, Parser.parse("count"));
+    }
+
+    @Test
+    void parse_upcomingAndOverdue_success() throws Exception {
+        assertInstanceOf(UpcomingCommand.class, Parser.parse("upcoming"));
+        assertInstanceOf(UpcomingCommand.class, Parser.parse("upcoming 10"));
+        assertInstanceOf(OverdueCommand.class, Parser.parse("overdue"));
+        assertThrows(CherishException.class, () -> Parser.parse("upcoming 0"));
+        assertThrows(CherishException.class, () -> Parser.parse("upcoming ten"));
+    }
+
+    @Test
+    void parse_rangesAndLists_bulkCommands() throws Exception {
+        assertInstanceOf(BulkMarkCommand.class, Parser.parse("mark 1-300"));
+        assertInstanceOf(BulkMarkCommand.class, Parser.parse("unmark 2, 5 - 7,#12"));
+        assertInstanceOf(BulkDeleteCommand.class, Parser.parse("delete 4,9,12"));
+        assertInstanceOf(MarkCommand.class, Parser.parse("mark 3"));
+    }
+
+    @Test
+    void parse_invalidRangeOrList_throwsException() {
+        assertThrows(CherishException.class, () -> Parser.parse("mark 5-2"));
+        assertThrows(CherishException.class, () -> Parser.parse("delete 1,,3"));
+        assertThrows(CherishException.class, () -> Parser.parse("delete 0-3"));
+        assertThrows(CherishException.class, () -> Parser.parse("mark 1-x"));
+    }
+
     @Test
     void parse_undoCommand_success() throws Exception {
         assertInstanceOf(UndoCommand.class, Parser.parse("undo"));
@@ -126,6 +166,25 @@ public class ParserTest {
         assertInstanceOf(DeleteCommand.class, Parser.parse("delete 3"));
     }
 
+    @Test
+    void parse_listPage_success() throws Exception {
+        assertInstanceOf(ListCommand.class, Parser.parse("list 2"));
+        assertInstanceOf(ListCommand.class, Parser.parse("list 2 10"));
+    }
+
+    @Test
+    void parse_listInvalidPage_throwsException() {
+        assertThrows(
+                CherishException.class, () -> Parser.parse("list 0")
+        );
+        assertThrows(
+                CherishException.class, () -> Parser.parse("list 1 big")
+        );
+        assertThrows(
+                CherishException.class, () -> Parser.parse("list 1 2 3")
+        );
+    }
+
     @Test
     void parse_markWithoutIndex_throwsException() {
         assertThrows(
@@ -140,6 +199,23 @@ public class ParserTest {
         );
     }
 
+    @Test
+    void parse_taskId_success() throws Exception {
+        assertInstanceOf(MarkCommand.class, Parser.parse("mark #1234"));
+        assertInstanceOf(UnmarkCommand.class, Parser.parse("unmark #1"));
+        assertInstanceOf(DeleteCommand.class, Parser.parse("delete #42"));
+    }
+
+    @Test
+    void parse_invalidTaskId_throwsException() {
+        assertThrows(
+                CherishException.class, () -> Parser.parse("mark #0")
+        );
+        assertThrows(
+                CherishException.class, () -> Parser.parse("delete #abc")
+        );
+    }
+
     /* =====================
        Find / FindDate
        ===================== */
@@ -171,6 +247,45 @@ public class ParserTest {
         );
     }
 
+    @Test
+    void parse_findRangeValid_success() throws Exception {
+        assertInstanceOf(
+                FindRangeCommand.class,
+                Parser.parse("findrange 2026-02-01 2026-02-07")
+        );
+        assertInstanceOf(
+                FindRangeCommand.class,
+                Parser.parse("findrange 2026-02-01 2026-02-07 2")
+        );
+    }
+
+    @Test
+    void parse_findRangeMissingDateOrBadPage_throwsException() {
+        assertThrows(
+                CherishException.class, () -> Parser.parse("findrange 2026-02-01")
+        );
+        assertThrows(
+                CherishException.class, () -> Parser.parse("findrange 2026-02-01 2026-02-07 0")
+        );
+        assertThrows(
+                CherishException.class, () -> Parser.parse("findrange 2026-02-01 2026-02-07 next")
+        );
+    }
+
+    @Test
+    void parse_badPage_sameMessageForListAndFindRange() {
+        assertEquals(
+                assertThrows(CherishException.class, () -> Parser.parse("list 0")).getMessage(),
+                assertThrows(CherishException.class, () -> Parser.parse("findrange 2026-02-01 2026-02-07 0"))
+                        .getMessage()
+        );
+        assertEquals(
+                assertThrows(CherishException.class, () -> Parser.parse("list next")).getMessage(),
+                assertThrows(CherishException.class, () -> Parser.parse("findrange 2026-02-01 2026-02-07 next"))
+                        .getMessage()
+        );
+    }
+
     /* =====================
        Unknown / empty input
        ===================== */
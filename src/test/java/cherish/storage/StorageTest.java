@@ -1,14 +1,19 @@
 package cherish.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -17,15 +22,26 @@ import cherish.CherishException;
 import cherish.model.Deadline;
 import cherish.model.Event;
 import cherish.model.Task;
+import cherish.model.TaskList;
 import cherish.model.Todo;
 
 public class StorageTest {
 
     private static final String TEST_FILE = "data/test-storage.txt";
+    private static final String TEST_JOURNAL = TEST_FILE + ".journal";
+    private static final String TEST_SEALED_JOURNAL = TEST_FILE + ".journal.sealed";
+    private static final String TEST_APPLIED_JOURNAL = TEST_FILE + ".journal.applied";
+    private static final String TEST_TEMP = TEST_FILE + ".tmp";
+    private static final String TEST_CACHE = TEST_FILE + ".cache";
 
     @AfterEach
     void cleanup() throws IOException {
         Files.deleteIfExists(Path.of(TEST_FILE));
+        Files.deleteIfExists(Path.of(TEST_JOURNAL));
+        Files.deleteIfExists(Path.of(TEST_SEALED_JOURNAL));
+        Files.deleteIfExists(Path.of(TEST_APPLIED_JOURNAL));
+        Files.deleteIfExists(Path.of(TEST_TEMP));
+        Files.deleteIfExists(Path.of(TEST_CACHE));
     }
 
     /* =====================
@@ -142,4 +158,704 @@ public class StorageTest {
                 storage::load
         );
     }
+
+    /* =====================
+       Journal mode
+       ===================== */
+
+    @Test
+    void journal_changesReplayedOverSnapshot_success() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("a"));
+        tasks.add(new Todo("b"));
+        storage.save(tasks.toArray());
+
+        Todo c = new Todo("c");
+        tasks.add(c);
+        storage.saveAdded(tasks, c);
+        tasks.markAsDone(0);
+        storage.saveMarked(tasks, 0, true);
+        Task removed = tasks.getByIndex(1);
+        tasks.remove(1);
+        storage.saveRemoved(tasks, 1);
+        tasks.addByIndex(0, removed);
+        storage.saveInserted(tasks, 0, removed);
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.JOURNAL).load();
+
+        assertEquals(3, loaded.length);
+        assertEquals("b", loaded[0].getDescription());
+        assertEquals("a", loaded[1].getDescription());
+        assertTrue(loaded[1].isDone());
+        assertEquals("c", loaded[2].getDescription());
+    }
+
+    @Test
+    void journal_saveAdded_leavesSnapshotUntouched() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("a"));
+        storage.save(tasks.toArray());
+        String snapshot = Files.readString(Path.of(TEST_FILE));
+
+        Todo b = new Todo("b");
+        tasks.add(b);
+        storage.saveAdded(tasks, b);
+
+        assertEquals(snapshot, Files.readString(Path.of(TEST_FILE)));
+        assertEquals("A | #2 | T | 0 | b\n", Files.readString(Path.of(TEST_JOURNAL)));
+    }
+
+    @Test
+    void journal_save_clearsJournal() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        TaskList tasks = new TaskList();
+        Todo a = new Todo("a");
+        tasks.add(a);
+        storage.saveAdded(tasks, a);
+
+        storage.save(tasks.toArray());
+
+        assertFalse(Files.exists(Path.of(TEST_JOURNAL)));
+        assertEquals(1, storage.load().length);
+    }
+
+    @Test
+    void journal_tornTrailingRecord_isIgnored() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_JOURNAL), "A | T | 0 | a\nA | T | 0 | unfinish");
+
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        Task[] loaded = storage.load();
+
+        assertEquals(1, loaded.length);
+        assertEquals("A | T | 0 | a\n", Files.readString(Path.of(TEST_JOURNAL)));
+    }
+
+    @Test
+    void journal_corruptedRecord_throwsException() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_JOURNAL), "R | 3\n");
+
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+
+        assertThrows(
+                CherishException.class,
+                storage::load
+        );
+    }
+
+    /* =====================
+       Journal compaction
+       ===================== */
+
+    @Test
+    void compaction_thresholdReached_foldsJournalIntoSnapshot() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        storage.setCompactionThresholds(2, Long.MAX_VALUE);
+        TaskList tasks = new TaskList();
+
+        for (String description : new String[]{"a", "b", "c"}) {
+            Todo todo = new Todo(description);
+            tasks.add(todo);
+            storage.saveAdded(tasks, todo);
+        }
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(Path.of(TEST_SEALED_JOURNAL)));
+        assertEquals(2, Files.readAllLines(Path.of(TEST_FILE)).size());
+        assertEquals("A | #3 | T | 0 | c\n", Files.readString(Path.of(TEST_JOURNAL)));
+        assertEquals(3, new Storage(TEST_FILE, StorageMode.JOURNAL).load().length);
+    }
+
+    @Test
+    void load_sealedJournalLeftBehind_isReplayed() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "T | 0 | a\n");
+        Files.writeString(Path.of(TEST_SEALED_JOURNAL), "A | T | 0 | b\n");
+        Files.writeString(Path.of(TEST_JOURNAL), "M | 1 | 1\n");
+
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        Task[] loaded = storage.load();
+        storage.awaitCompaction();
+
+        assertEquals(2, loaded.length);
+        assertTrue(loaded[1].isDone());
+        assertFalse(Files.exists(Path.of(TEST_SEALED_JOURNAL)));
+        assertEquals(2, Files.readAllLines(Path.of(TEST_FILE)).size());
+    }
+
+    @Test
+    void load_crashAfterJournalApplied_finishesSnapshotReplacement() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "T | 0 | a\n");
+        Files.writeString(Path.of(TEST_TEMP), "T | 0 | a\nT | 0 | b\n");
+        Files.writeString(Path.of(TEST_APPLIED_JOURNAL), "A | T | 0 | b\n");
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.JOURNAL).load();
+
+        assertEquals(2, loaded.length);
+        assertFalse(Files.exists(Path.of(TEST_APPLIED_JOURNAL)));
+        assertFalse(Files.exists(Path.of(TEST_TEMP)));
+    }
+
+    /* =====================
+       Write-behind
+       ===================== */
+
+    @Test
+    void writeBehind_journalRecords_writtenTogetherOnFlush() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        storage.setWriteBehind(60_000);
+        TaskList tasks = new TaskList();
+
+        Todo a = new Todo("a");
+        tasks.add(a);
+        storage.saveAdded(tasks, a);
+        tasks.markAsDone(0);
+        storage.saveMarked(tasks, 0, true);
+
+        assertFalse(Files.exists(Path.of(TEST_JOURNAL)));
+
+        storage.flush();
+
+        assertEquals("A | #1 | T | 0 | a\nM | 0 | 1\n", Files.readString(Path.of(TEST_JOURNAL)));
+        storage.close();
+    }
+
+    @Test
+    void writeBehind_snapshots_onlyLatestWritten() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        storage.setWriteBehind(60_000);
+
+        storage.save(new Task[]{ new Todo("first") });
+        storage.save(new Task[]{ new Todo("second"), new Todo("third") });
+        storage.close();
+
+        Task[] loaded = new Storage(TEST_FILE).load();
+
+        assertEquals(2, loaded.length);
+        assertEquals("second", loaded[0].getDescription());
+    }
+
+    @Test
+    void writeBehind_load_seesQueuedChanges() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        storage.setWriteBehind(60_000);
+        TaskList tasks = new TaskList();
+
+        Todo a = new Todo("a");
+        tasks.add(a);
+        storage.saveAdded(tasks, a);
+
+        assertEquals(1, storage.load().length);
+        storage.close();
+    }
+
+    /* =====================
+       Durability
+       ===================== */
+
+    @Test
+    void save_everyDurability_roundTripsWithoutTempFile() throws Exception {
+        for (Durability durability : Durability.values()) {
+            Storage storage = new Storage(TEST_FILE);
+            storage.setDurability(durability);
+
+            storage.save(new Task[]{ new Todo("read book") });
+
+            assertEquals(1, storage.load().length);
+            assertFalse(Files.exists(Path.of(TEST_TEMP)));
+            assertTrue(storage.getSaveLatencySummary().startsWith("1 writes with durability " + durability));
+        }
+    }
+
+    @Test
+    void journal_alwaysDurability_recordsEveryAppend() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        storage.setDurability(Durability.ALWAYS);
+        TaskList tasks = new TaskList();
+
+        Todo a = new Todo("a");
+        tasks.add(a);
+        storage.saveAdded(tasks, a);
+        tasks.markAsDone(0);
+        storage.saveMarked(tasks, 0, true);
+
+        assertTrue(storage.getSaveLatencySummary().startsWith("2 writes"));
+        assertTrue(new Storage(TEST_FILE, StorageMode.JOURNAL).load()[0].isDone());
+    }
+
+    @Test
+    void load_leftoverTempFromInterruptedSave_keepsOldSnapshot() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "T | 0 | a\n");
+        Files.writeString(Path.of(TEST_TEMP), "T | 0 | half writ");
+
+        Task[] loaded = new Storage(TEST_FILE).load();
+
+        assertEquals(1, loaded.length);
+        assertEquals("a", loaded[0].getDescription());
+        assertFalse(Files.exists(Path.of(TEST_TEMP)));
+    }
+
+    /* =====================
+       Buffered text loader
+       ===================== */
+
+    @Test
+    void load_mixedLineEndingsAndBlankLines_readsEveryTask() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE),
+                "T | 0 | a\r\n\r\n   \nD | 1 | b | 2026-02-01 1800\rE | 0 | c | 2026-02-01 1800 | 2026-02-01 2000");
+
+        Task[] loaded = new Storage(TEST_FILE).load();
+
+        assertEquals(3, loaded.length);
+        assertEquals("T | 0 | a", loaded[0].toFileString());
+        assertEquals("D | 1 | b | 2026-02-01 1800", loaded[1].toFileString());
+        assertEquals("E | 0 | c | 2026-02-01 1800 | 2026-02-01 2000", loaded[2].toFileString());
+    }
+
+    @Test
+    void load_nonAsciiDescription_decodedAsUtf8() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "T | 0 | caf\u00e9 \u2615\n");
+
+        Task[] loaded = new Storage(TEST_FILE).load();
+
+        assertEquals("caf\u00e9 \u2615", loaded[0].getDescription());
+    }
+
+    @Test
+    void load_malformedUtf8_throwsException() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.write(Path.of(TEST_FILE), new byte[]{ 'T', ' ', '|', ' ', '0', ' ', '|', ' ', (byte) 0xC3, '\n' });
+
+        Storage storage = new Storage(TEST_FILE);
+
+        assertThrows(CherishException.class, storage::load);
+    }
+
+    @Test
+    void load_nonCanonicalDate_resolvedLikeFormatter() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "D | 0 | a | 2026-02-30 1800\nD | 0 | b | 2026-02-01 2400\n");
+
+        Task[] loaded = new Storage(TEST_FILE).load();
+
+        assertEquals(LocalDateTime.of(2026, 2, 28, 18, 0), ((Deadline) loaded[0]).getBy());
+        assertEquals(LocalDateTime.of(2026, 2, 2, 0, 0), ((Deadline) loaded[1]).getBy());
+    }
+
+    /* =====================
+       Binary format
+       ===================== */
+
+    @Test
+    void saveAndLoad_binaryFormat_roundTripsEveryTaskType() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        Deadline deadline = new Deadline("submit caf\u00e9 report", LocalDateTime.of(2026, 2, 1, 18, 0));
+        deadline.markAsDone();
+        Task[] original = {
+            new Todo("read book"),
+            deadline,
+            new Event("meeting", LocalDateTime.of(2026, 2, 1, 18, 0), LocalDateTime.of(2026, 2, 1, 20, 0))
+        };
+
+        storage.save(original);
+        Task[] loaded = new Storage(TEST_FILE).load();
+
+        assertTrue(BinaryTaskFormat.isBinary(Path.of(TEST_FILE)));
+        assertEquals(original.length, loaded.length);
+        for (int i = 0; i < original.length; i++) {
+            assertEquals(original[i].toFileString(), loaded[i].toFileString());
+        }
+    }
+
+    @Test
+    void convertSnapshot_textToBinaryAndBack_preservesTasks() throws Exception {
+        String content = "T | 1 | a\nD | 0 | b | 2026-02-01 1800\nE | 0 | c | 2026-02-01 1800 | 2026-02-01 2000\n";
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), content);
+        Storage storage = new Storage(TEST_FILE);
+
+        storage.convertSnapshot(SnapshotFormat.BINARY);
+        assertTrue(BinaryTaskFormat.isBinary(Path.of(TEST_FILE)));
+        assertEquals(3, storage.load().length);
+
+        storage.convertSnapshot(SnapshotFormat.TEXT);
+        assertEquals(content, Files.readString(Path.of(TEST_FILE)));
+    }
+
+    @Test
+    void journal_binarySnapshot_replaysAndCompacts() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        storage.setCompactionThresholds(2, Long.MAX_VALUE);
+        TaskList tasks = new TaskList();
+
+        for (String description : new String[]{ "a", "b", "c" }) {
+            Todo todo = new Todo(description);
+            tasks.add(todo);
+            storage.saveAdded(tasks, todo);
+        }
+        storage.awaitCompaction();
+
+        assertTrue(BinaryTaskFormat.isBinary(Path.of(TEST_FILE)));
+        assertEquals(3, new Storage(TEST_FILE, StorageMode.JOURNAL).load().length);
+    }
+
+    @Test
+    void load_truncatedBinaryFile_throwsException() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        storage.setSnapshotFormat(SnapshotFormat.BINARY);
+        storage.save(new Task[]{ new Todo("read book") });
+        byte[] bytes = Files.readAllBytes(Path.of(TEST_FILE));
+        Files.write(Path.of(TEST_FILE), Arrays.copyOf(bytes, bytes.length - 2));
+
+        assertThrows(CherishException.class, storage::load);
+    }
+
+    @Test
+    void load_binaryRecordWithHugeLength_throwsException() throws Exception {
+        ByteBuffer bytes = ByteBuffer.allocate(32);
+        bytes.put(new byte[]{ (byte) 0x89, 'C', 'H', 'R', 2, 'T', 0 }).putLong(1).putInt(Integer.MAX_VALUE);
+        Files.write(Path.of(TEST_FILE), Arrays.copyOf(bytes.array(), bytes.position()));
+
+        Storage storage = new Storage(TEST_FILE);
+        assertThrows(CherishException.class, storage::load);
+
+        bytes.putInt(bytes.position() - Integer.BYTES, 1000);
+        Files.write(Path.of(TEST_FILE), Arrays.copyOf(bytes.array(), bytes.position()));
+        assertThrows(CherishException.class, storage::load);
+    }
+
+    /* =====================
+       Slotted mode
+       ===================== */
+
+    @Test
+    void slotted_markAndRemove_writeInPlace() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.SLOTTED);
+        TaskList tasks = new TaskList();
+        for (String description : new String[]{ "a", "b", "c" }) {
+            Todo todo = new Todo(description);
+            tasks.add(todo);
+            storage.saveAdded(tasks, todo);
+        }
+        long size = Files.size(Path.of(TEST_FILE));
+
+        tasks.remove(0);
+        storage.saveRemoved(tasks, 0);
+        tasks.markAsDone(0);
+        storage.saveMarked(tasks, 0, true);
+
+        assertEquals(size, Files.size(Path.of(TEST_FILE)));
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+        assertEquals(2, loaded.length);
+        assertEquals("b", loaded[0].getDescription());
+        assertTrue(loaded[0].isDone());
+        assertFalse(loaded[1].isDone());
+    }
+
+    @Test
+    void slotted_insertInMiddle_rewritesInListOrder() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.SLOTTED);
+        storage.save(new Task[]{ new Todo("a"), new Todo("c") });
+        TaskList tasks = new TaskList(storage.load());
+
+        Todo b = new Todo("b");
+        tasks.addByIndex(1, b);
+        storage.saveInserted(tasks, 1, b);
+        tasks.markAsDone(2);
+        storage.saveMarked(tasks, 2, true);
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+        assertEquals("b", loaded[1].getDescription());
+        assertTrue(loaded[2].isDone());
+    }
+
+    @Test
+    void slotted_textFile_convertedOnLoad() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "T | 0 | a\nD | 0 | b | 2026-02-01 1800\n");
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+
+        assertEquals(2, loaded.length);
+        assertTrue(BinaryTaskFormat.isBinary(Path.of(TEST_FILE)));
+    }
+
+    @Test
+    void slotted_manyRemovals_reclaimTombstones() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.SLOTTED);
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 200; i++) {
+            Todo todo = new Todo("task " + i);
+            tasks.add(todo);
+            storage.saveAdded(tasks, todo);
+        }
+        long size = Files.size(Path.of(TEST_FILE));
+
+        while (tasks.size() > 10) {
+            tasks.remove(0);
+            storage.saveRemoved(tasks, 0);
+        }
+
+        assertTrue(Files.size(Path.of(TEST_FILE)) < size);
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+        assertEquals(10, loaded.length);
+        assertEquals("task 190", loaded[0].getDescription());
+    }
+
+    /* =====================
+       Startup cache
+       ===================== */
+
+    @Test
+    void load_startupCache_builtOnFirstLoadAndHitAfter() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        storage.setStartupCache(true);
+        storage.save(new Task[]{ new Todo("a"), new Deadline("b", LocalDateTime.of(2026, 2, 1, 18, 0)) });
+
+        assertEquals(2, storage.load().length);
+
+        SnapshotCache cache = new SnapshotCache(Path.of(TEST_FILE), Path.of(TEST_CACHE));
+        List<Task> cached = new ArrayList<>();
+        assertTrue(cache.read(cached));
+        assertEquals("D | 0 | b | 2026-02-01 1800", cached.get(1).toFileString());
+        assertEquals(2, storage.load().length);
+    }
+
+    @Test
+    void load_startupCacheAfterFileChanged_rebuildsCache() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        storage.setStartupCache(true);
+        storage.save(new Task[]{ new Todo("a") });
+        storage.load();
+
+        storage.save(new Task[]{ new Todo("a"), new Todo("b") });
+        assertFalse(new SnapshotCache(Path.of(TEST_FILE), Path.of(TEST_CACHE)).read(new ArrayList<>()));
+
+        assertEquals(2, storage.load().length);
+        assertTrue(new SnapshotCache(Path.of(TEST_FILE), Path.of(TEST_CACHE)).read(new ArrayList<>()));
+    }
+
+    @Test
+    void load_damagedStartupCache_fallsBackToTextFile() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        storage.setStartupCache(true);
+        storage.save(new Task[]{ new Todo("a") });
+        storage.load();
+        byte[] bytes = Files.readAllBytes(Path.of(TEST_CACHE));
+        Files.write(Path.of(TEST_CACHE), Arrays.copyOf(bytes, bytes.length - 1));
+
+        Task[] loaded = storage.load();
+
+        assertEquals(1, loaded.length);
+        assertEquals("a", loaded[0].getDescription());
+    }
+
+    /* =====================
+       Parallel loading
+       ===================== */
+
+    @Test
+    void load_fileAboveParallelThreshold_keepsFileOrder() throws Exception {
+        int count = writeLargeFile(-1);
+
+        Task[] loaded = new Storage(TEST_FILE).load();
+
+        assertEquals(count, loaded.length);
+        for (int i = 0; i < count; i++) {
+            assertEquals("task " + i, loaded[i].getDescription());
+        }
+        assertTrue(loaded[1].isDone());
+        assertInstanceOf(Deadline.class, loaded[2]);
+    }
+
+    @Test
+    void load_corruptedLineInLargeFile_throwsException() throws Exception {
+        writeLargeFile(50_000);
+
+        Storage storage = new Storage(TEST_FILE);
+
+        assertThrows(CherishException.class, storage::load);
+    }
+
+    /* =====================
+       Task IDs
+       ===================== */
+
+    @Test
+    void saveAndLoad_textFormat_keepsTaskIds() throws Exception {
+        Storage storage = new Storage(TEST_FILE);
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("a"));
+        tasks.add(new Todo("b"));
+        tasks.add(new Todo("c"));
+        tasks.remove(1);
+
+        storage.save(tasks.toArray());
+        TaskList loaded = new TaskList(new Storage(TEST_FILE).load());
+
+        assertEquals("#1 | T | 0 | a\n#3 | T | 0 | c\n",
+                Files.readString(Path.of(TEST_FILE)).replace(System.lineSeparator(), "\n"));
+        assertEquals("c", loaded.getById(3).getDescription());
+        assertFalse(loaded.hasUnsavedIds());
+    }
+
+    @Test
+    void load_textWithoutIds_assignsIdsAboveStoredOnes() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "T | 0 | a\n#7 | T | 0 | b\n#7 | T | 0 | c\n");
+
+        TaskList loaded = new TaskList(new Storage(TEST_FILE).load());
+
+        assertEquals("b", loaded.getById(7).getDescription());
+        assertEquals("a", loaded.getById(8).getDescription());
+        assertEquals("c", loaded.getById(9).getDescription());
+        assertTrue(loaded.hasUnsavedIds());
+    }
+
+    @Test
+    void load_invalidTaskId_throwsException() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), "#0 | T | 0 | a\n");
+
+        Storage storage = new Storage(TEST_FILE);
+
+        assertThrows(CherishException.class, storage::load);
+    }
+
+    @Test
+    void saveAdded_slottedMode_keepsTaskIds() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.SLOTTED);
+        TaskList tasks = new TaskList();
+        Todo first = new Todo("a");
+        Todo second = new Todo("b");
+        tasks.add(first);
+        storage.saveAdded(tasks, first);
+        tasks.add(second);
+        storage.saveAdded(tasks, second);
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+
+        assertEquals(1, loaded[0].getId());
+        assertEquals(2, loaded[1].getId());
+    }
+
+    @Test
+    void slotted_tornLastRecord_droppedAndCutOff() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.SLOTTED);
+        TaskList tasks = new TaskList();
+        for (String description : new String[]{ "a", "b", "c" }) {
+            Todo todo = new Todo(description);
+            tasks.add(todo);
+            storage.saveAdded(tasks, todo);
+        }
+        byte[] bytes = Files.readAllBytes(Path.of(TEST_FILE));
+        Files.write(Path.of(TEST_FILE), Arrays.copyOf(bytes, bytes.length - 3));
+
+        Storage reopened = new Storage(TEST_FILE, StorageMode.SLOTTED);
+        TaskList loaded = new TaskList(reopened.load());
+        assertEquals(2, loaded.size());
+        assertEquals("b", loaded.getByIndex(1).getDescription());
+        assertTrue(Files.size(Path.of(TEST_FILE)) < bytes.length - 3);
+
+        Todo todo = new Todo("d");
+        loaded.add(todo);
+        reopened.saveAdded(loaded, todo);
+        Task[] reloaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+        assertEquals(3, reloaded.length);
+        assertEquals("d", reloaded[2].getDescription());
+    }
+
+    @Test
+    void load_binaryVersionWithoutIds_readAndUpgradedInSlottedMode() throws Exception {
+        Files.createDirectories(Path.of("data"));
+        Files.write(Path.of(TEST_FILE), new byte[]{ (byte) 0x89, 'C', 'H', 'R', 1, 'T', 1, 0, 0, 0, 1, 'a' });
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+
+        assertEquals("T | 1 | a", loaded[0].toFileString());
+        assertEquals(0, loaded[0].getId());
+        assertTrue(BinaryTaskFormat.isCurrentVersion(Path.of(TEST_FILE)));
+    }
+
+    /* =====================
+       Bulk changes
+       ===================== */
+
+    @Test
+    void journal_bulkMarkAndRemove_replayedInOrder() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.JOURNAL);
+        TaskList tasks = new TaskList();
+        for (String description : new String[]{ "a", "b", "c", "d", "e" }) {
+            tasks.add(new Todo(description));
+        }
+        storage.save(tasks.toArray());
+
+        tasks.markAsDone(1);
+        tasks.markAsDone(4);
+        storage.saveMarked(tasks, new int[]{ 1, 4 }, true);
+        tasks.removeAll(new int[]{ 0, 2, 3 });
+        storage.saveRemoved(tasks, new int[]{ 0, 2, 3 });
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.JOURNAL).load();
+        assertEquals(2, loaded.length);
+        assertEquals("b", loaded[0].getDescription());
+        assertEquals("e", loaded[1].getDescription());
+        assertTrue(loaded[0].isDone() && loaded[1].isDone());
+    }
+
+    @Test
+    void slotted_bulkRemove_dropsSlotsInOnePass() throws Exception {
+        Storage storage = new Storage(TEST_FILE, StorageMode.SLOTTED);
+        TaskList tasks = new TaskList();
+        for (int i = 0; i < 6; i++) {
+            Todo todo = new Todo("task " + i);
+            tasks.add(todo);
+            storage.saveAdded(tasks, todo);
+        }
+
+        tasks.removeAll(new int[]{ 1, 2, 4 });
+        storage.saveRemoved(tasks, new int[]{ 1, 2, 4 });
+        tasks.markAsDone(2);
+        storage.saveMarked(tasks, new int[]{ 2 }, true);
+
+        Task[] loaded = new Storage(TEST_FILE, StorageMode.SLOTTED).load();
+        assertEquals(3, loaded.length);
+        assertEquals("task 0", loaded[0].getDescription());
+        assertEquals("task 3", loaded[1].getDescription());
+        assertEquals("task 5", loaded[2].getDescription());
+        assertTrue(loaded[2].isDone());
+    }
+
+    /**
+     * Writes enough tasks to exceed the parallel threshold, with CRLF line endings.
+     *
+     * @param corruptedIndex Index of a line to corrupt, or -1 for none.
+     * @return Number of tasks written.
+     */
+    private int writeLargeFile(int corruptedIndex) throws IOException {
+        StringBuilder content = new StringBuilder();
+        int count = 0;
+        while (content.length() <= TextTaskReader.PARALLEL_THRESHOLD_BYTES * 2) {
+            if (count == corruptedIndex) {
+                content.append("CORRUPTED\r\n");
+            } else if (count % 3 == 2) {
+                content.append("D | 0 | task ").append(count).append(" | 2026-02-01 1800\r\n");
+            } else {
+                content.append("T | ").append(count % 3).append(" | task ").append(count).append("\r\n");
+            }
+            count++;
+        }
+        Files.createDirectories(Path.of("data"));
+        Files.writeString(Path.of(TEST_FILE), content);
+        return count;
+    }
 }